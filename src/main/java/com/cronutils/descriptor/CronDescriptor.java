@@ -3,6 +3,8 @@ package com.cronutils.descriptor;
 import com.cronutils.model.Cron;
 import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.field.expression.Hashed;
+import com.google.common.collect.Maps;
 import org.apache.commons.lang3.Validate;
 
 import java.util.Locale;
@@ -54,7 +56,7 @@ public class CronDescriptor {
      */
     public String describe(Cron cron) {
         Validate.notNull(cron, "Cron must not be null");
-        Map<CronFieldName, CronField> expressions = cron.retrieveFieldsAsMap();
+        Map<CronFieldName, CronField> expressions = resolveHashed(cron.retrieveFieldsAsMap());
         return
                 new StringBuilder()
                         .append(describeHHmmss(expressions)).append(" ")
@@ -65,6 +67,23 @@ public class CronDescriptor {
                         .toString().replaceAll("\\s+", " ").trim();
     }
 
+    /**
+     * Replaces hashed (H) expressions by expressions selecting same values,
+     * so they are described as if their values were written down.
+     * @param fields - fields to describe
+     * @return fields with no hashed expressions
+     */
+    private Map<CronFieldName, CronField> resolveHashed(Map<CronFieldName, CronField> fields) {
+        Map<CronFieldName, CronField> resolved = Maps.newHashMap(fields);
+        for (CronField field : fields.values()) {
+            if (field.getExpression() instanceof Hashed) {
+                resolved.put(field.getField(),
+                        new CronField(field.getField(), ((Hashed) field.getExpression()).resolve(), field.getConstraints()));
+            }
+        }
+        return resolved;
+    }
+
     /**
      * Provide description for hours, minutes and seconds
      * @param fields - fields to describe;
@@ -81,6 +81,9 @@ abstract class DescriptionStrategy {
         if (fieldExpression instanceof On) {
             return describe((On) fieldExpression, and);
         }
+        if (fieldExpression instanceof Hashed) {
+            return describe((Hashed) fieldExpression, and);
+        }
         return "";
     }
 
@@ -191,6 +194,16 @@ abstract class DescriptionStrategy {
         return description;
     }
 
+    /**
+     * Provide a human readable description for Hashed instance:
+     * described as the expression selecting same values.
+     * @param hashed - Hashed
+     * @return human readable description - String
+     */
+    protected String describe(Hashed hashed, boolean and) {
+        return describe(hashed.resolve(), and);
+    }
+
     /**
      * Provide a human readable description for On instance
      * @param on - On
@@ -1,8 +1,8 @@
 package com.cronutils.descriptor;
 
 import com.cronutils.model.field.constraint.FieldConstraintsBuilder;
-import com.cronutils.model.field.expression.Always;
 import com.cronutils.model.field.expression.FieldExpression;
+import com.cronutils.model.field.expression.FieldExpressionFactory;
 import com.google.common.base.Function;
 import com.google.common.collect.Sets;
 
@@ -47,7 +47,7 @@ class NominalDescriptionStrategy extends DescriptionStrategy {
         if (expression != null) {
             this.expression = expression;
         } else {
-            this.expression = new Always();
+            this.expression = FieldExpressionFactory.always();
         }
     }
 
@@ -43,9 +43,9 @@ class TimeDescriptionStrategy extends DescriptionStrategy {
     TimeDescriptionStrategy(ResourceBundle bundle, FieldExpression hours,
                             FieldExpression minutes, FieldExpression seconds) {
         super(bundle);
-        this.hours = ensureInstance(hours, new Always());
-        this.minutes = ensureInstance(minutes, new Always());
-        this.seconds = ensureInstance(seconds, new On(new IntegerFieldValue(defaultSeconds)));
+        this.hours = ensureInstance(hours, FieldExpressionFactory.always());
+        this.minutes = ensureInstance(minutes, FieldExpressionFactory.always());
+        this.seconds = ensureInstance(seconds, new On(IntegerFieldValue.of(defaultSeconds)));
         descriptions = Sets.newHashSet();
         registerFunctions();
     }
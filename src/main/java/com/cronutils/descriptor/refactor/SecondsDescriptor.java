@@ -207,4 +207,9 @@ class SecondsDescriptor implements FieldExpressionVisitor {
     public QuestionMark visit(QuestionMark questionMark) {
         return null;
     }
+
+    @Override
+    public Hashed visit(Hashed hashed) {
+        return null;
+    }
 }
@@ -12,6 +12,7 @@ import com.cronutils.model.field.definition.DayOfWeekFieldDefinition;
 import com.cronutils.model.field.definition.FieldDefinition;
 import com.cronutils.model.field.expression.Always;
 import com.cronutils.model.field.expression.FieldExpression;
+import com.cronutils.model.field.expression.FieldExpressionFactory;
 import com.cronutils.model.field.expression.On;
 import com.cronutils.model.field.expression.QuestionMark;
 import com.cronutils.model.field.expression.visitor.ValueMappingFieldExpressionVisitor;
@@ -137,10 +138,10 @@ public class CronMapper {
                         Map<CronFieldName, CronField> fields = Maps.newHashMap();
                         fields.putAll(cron.retrieveFieldsAsMap());
                         if(dow.getExpression() instanceof Always){
-                            fields.put(CronFieldName.DAY_OF_WEEK, new CronField(CronFieldName.DAY_OF_WEEK, new QuestionMark(), fields.get(CronFieldName.DAY_OF_WEEK).getConstraints()));
+                            fields.put(CronFieldName.DAY_OF_WEEK, new CronField(CronFieldName.DAY_OF_WEEK, FieldExpressionFactory.questionMark(), fields.get(CronFieldName.DAY_OF_WEEK).getConstraints()));
                         }else{
                             if(dom.getExpression() instanceof Always){
-                                fields.put(CronFieldName.DAY_OF_MONTH, new CronField(CronFieldName.DAY_OF_MONTH, new QuestionMark(), fields.get(CronFieldName.DAY_OF_MONTH).getConstraints()));
+                                fields.put(CronFieldName.DAY_OF_MONTH, new CronField(CronFieldName.DAY_OF_MONTH, FieldExpressionFactory.questionMark(), fields.get(CronFieldName.DAY_OF_MONTH).getConstraints()));
                             }else{
                                 cron.validate();
                             }
@@ -235,7 +236,7 @@ public class CronMapper {
             @Override
             public CronField apply(CronField field) {
                 FieldConstraints constraints = FieldConstraintsBuilder.instance().forField(name).createConstraintsInstance();
-                return new CronField(name, new On(new IntegerFieldValue(0)), constraints);
+                return new CronField(name, new On(IntegerFieldValue.of(0)), constraints);
             }
         };
     }
@@ -250,7 +251,7 @@ public class CronMapper {
         return new Function<CronField, CronField>() {
             @Override
             public CronField apply(CronField field) {
-                return new CronField(name, new Always(), FieldConstraintsBuilder.instance().forField(name).createConstraintsInstance());
+                return new CronField(name, FieldExpressionFactory.always(), FieldConstraintsBuilder.instance().forField(name).createConstraintsInstance());
             }
         };
     }
@@ -269,7 +270,7 @@ public class CronMapper {
                                         @Override
                                         public FieldValue apply(FieldValue fieldValue) {
                                             if(fieldValue instanceof IntegerFieldValue){
-                                                return new IntegerFieldValue(
+                                                return IntegerFieldValue.of(
                                                         ConstantsMapper.weekDayMapping(
                                                                 sourceDef.getMondayDoWValue(),
                                                                 targetDef.getMondayDoWValue(),
@@ -284,7 +285,7 @@ public class CronMapper {
                     );
                 if(expression instanceof QuestionMark){
                     if(!targetDef.getConstraints().getSpecialChars().contains(SpecialChar.QUESTION_MARK)){
-                        dest = new Always();
+                        dest = FieldExpressionFactory.always();
                     }
                 }
                 return new CronField(CronFieldName.DAY_OF_WEEK, dest, targetDef.getConstraints());
@@ -301,7 +302,7 @@ public class CronMapper {
                 FieldExpression dest = expression;
                 if(expression instanceof QuestionMark){
                     if(!targetDef.getConstraints().getSpecialChars().contains(SpecialChar.QUESTION_MARK)){
-                        dest = new Always();
+                        dest = FieldExpressionFactory.always();
                     }
                 }
                 return new CronField(CronFieldName.DAY_OF_MONTH, dest, targetDef.getConstraints());
@@ -40,7 +40,7 @@ public class Cron {
     public Cron(CronDefinition cronDefinition, List<CronField> fields){
         this.cronDefinition = Validate.notNull(cronDefinition, "CronDefinition must not be null");
         Validate.notNull(fields, "CronFields cannot be null");
-        this.fields = Maps.newHashMap();
+        this.fields = Maps.newEnumMap(CronFieldName.class);
         for(CronField field : fields){
             this.fields.put(field.getField(), field);
         }
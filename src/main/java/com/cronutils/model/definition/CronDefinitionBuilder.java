@@ -1,13 +1,11 @@
 package com.cronutils.model.definition;
 
-import com.cronutils.model.Cron;
 import com.cronutils.model.field.CronFieldName;
 import com.cronutils.model.field.definition.FieldDayOfWeekDefinitionBuilder;
 import com.cronutils.model.field.definition.FieldDefinition;
 import com.cronutils.model.field.definition.FieldDefinitionBuilder;
 import com.cronutils.model.field.definition.FieldSpecialCharsDefinitionBuilder;
 import com.cronutils.model.CronType;
-import com.cronutils.model.field.expression.QuestionMark;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -188,16 +186,7 @@ public class CronDefinitionBuilder {
                 .withCronValidation(
                         //Solves issue #63: https://github.com/jmrozanec/cron-utils/issues/63
                         //both a day-of-week AND a day-of-month parameter should fail for QUARTZ
-                        new CronConstraint("Both, a day-of-week AND a day-of-month parameter, are not supported.") {
-                            @Override
-                            public boolean validate(Cron cron) {
-                                if(!(cron.retrieve(CronFieldName.DAY_OF_MONTH).getExpression() instanceof QuestionMark)){
-                                    return cron.retrieve(CronFieldName.DAY_OF_WEEK).getExpression() instanceof QuestionMark;
-                                } else {
-                                    return !(cron.retrieve(CronFieldName.DAY_OF_WEEK).getExpression() instanceof QuestionMark);
-                                }
-                            }
-                        })
+                        new DayOfWeekOrDayOfMonthConstraint())
                 .instance();
     }
 
@@ -0,0 +1,44 @@
+package com.cronutils.model.definition;
+
+import com.cronutils.model.Cron;
+import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.field.expression.FieldExpression;
+import com.cronutils.model.field.expression.QuestionMark;
+
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Requires exactly one of day of month and day of week to be '?', as Quartz does.
+ * Can be checked on field expressions, before a Cron is built from them.
+ */
+public class DayOfWeekOrDayOfMonthConstraint extends CronConstraint {
+
+    public DayOfWeekOrDayOfMonthConstraint() {
+        super("Both, a day-of-week AND a day-of-month parameter, are not supported.");
+    }
+
+    @Override
+    public boolean validate(Cron cron) {
+        return validate(cron.retrieve(CronFieldName.DAY_OF_MONTH).getExpression(), cron.retrieve(CronFieldName.DAY_OF_WEEK).getExpression());
+    }
+
+    /**
+     * @param dayOfMonth - day of month expression, never null
+     * @param dayOfWeek - day of week expression, never null
+     * @return true if exactly one of given expressions is a question mark, false otherwise
+     */
+    public boolean validate(FieldExpression dayOfMonth, FieldExpression dayOfWeek) {
+        return (dayOfMonth instanceof QuestionMark) != (dayOfWeek instanceof QuestionMark);
+    }
+}
@@ -26,4 +26,14 @@ public class Always extends FieldExpression {
     public String asString() {
         return "*";
     }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Always;
+    }
+
+    @Override
+    public int hashCode() {
+        return Always.class.hashCode();
+    }
 }
@@ -15,6 +15,7 @@ package com.cronutils.model.field.expression;
 
 import com.cronutils.model.field.value.FieldValue;
 import com.cronutils.model.field.value.IntegerFieldValue;
+import com.google.common.base.Objects;
 
 /**
  * Represents a range in a cron expression.
@@ -44,4 +45,21 @@ public class Between extends FieldExpression {
     public String asString() {
         return String.format("%s-%s", from, to);
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Between)) {
+            return false;
+        }
+        Between between = (Between) o;
+        return Objects.equal(from, between.from) && Objects.equal(to, between.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(from, to);
+    }
 }
@@ -25,13 +25,13 @@ public class Every extends FieldExpression {
     private IntegerFieldValue period;
 
     public Every(IntegerFieldValue time) {
-        this(new Always(), time);
+        this(FieldExpressionFactory.always(), time);
     }
 
     public Every(FieldExpression expression, IntegerFieldValue period) {
         this.expression = Validate.notNull(expression, "Expression must not be null");
         if (period == null) {
-            period = new IntegerFieldValue(1);
+            period = IntegerFieldValue.of(1);
         }
         this.period = period;
     }
@@ -55,4 +55,21 @@ public class Every extends FieldExpression {
         }
         return String.format("%s/%s", this.expression.asString(), getPeriod());
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Every)) {
+            return false;
+        }
+        Every every = (Every) o;
+        return expression.equals(every.expression) && period.equals(every.period);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * expression.hashCode() + period.hashCode();
+    }
 }
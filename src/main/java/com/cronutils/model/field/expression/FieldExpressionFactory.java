@@ -19,44 +19,53 @@ import com.cronutils.model.field.value.SpecialCharFieldValue;
 import java.util.List;
 
 public class FieldExpressionFactory {
+    private static final Always always = new Always();
+    private static final QuestionMark questionMark = new QuestionMark();
+
+    /**
+     * @return shared Always instance
+     */
     public static Always always(){
-        return new Always();
+        return always;
     }
 
     public static Between between(int from, int to){
-        return new Between(new IntegerFieldValue(from), new IntegerFieldValue(to));
+        return new Between(IntegerFieldValue.of(from), IntegerFieldValue.of(to));
     }
 
     public static Between between(SpecialChar from, int to){
-        return new Between(new SpecialCharFieldValue(from), new IntegerFieldValue(to));
+        return new Between(SpecialCharFieldValue.of(from), IntegerFieldValue.of(to));
     }
 
     public static Every every(int time){
-        return new Every(new IntegerFieldValue(time));
+        return new Every(IntegerFieldValue.of(time));
     }
 
     public static Every every(FieldExpression expression, int time){
-        return new Every(expression, new IntegerFieldValue(time));
+        return new Every(expression, IntegerFieldValue.of(time));
     }
 
     public static On on(SpecialChar specialChar){
-        return new On(new SpecialCharFieldValue(specialChar));
+        return new On(SpecialCharFieldValue.of(specialChar));
     }
 
     public static On on(int time){
-        return new On(new IntegerFieldValue(time));
+        return new On(IntegerFieldValue.of(time));
     }
 
     public static On on(int time, SpecialChar specialChar){
-        return new On(new IntegerFieldValue(time), new SpecialCharFieldValue(specialChar));
+        return new On(IntegerFieldValue.of(time), SpecialCharFieldValue.of(specialChar));
     }
 
     public static On on(int time, SpecialChar specialChar, int nth){
-        return new On(new IntegerFieldValue(time), new SpecialCharFieldValue(specialChar), new IntegerFieldValue(nth));
+        return new On(IntegerFieldValue.of(time), SpecialCharFieldValue.of(specialChar), IntegerFieldValue.of(nth));
     }
 
+    /**
+     * @return shared QuestionMark instance
+     */
     public static QuestionMark questionMark(){
-        return new QuestionMark();
+        return questionMark;
     }
 
     public static And and(List<FieldExpression> expressions){
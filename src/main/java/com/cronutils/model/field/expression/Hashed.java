@@ -0,0 +1,119 @@
+package com.cronutils.model.field.expression;
+
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import com.cronutils.model.field.value.IntegerFieldValue;
+import com.google.common.collect.Lists;
+import org.apache.commons.lang3.Validate;
+
+import java.util.List;
+
+/**
+ * Represents a hashed (H) value on cron expression field, as in H, H/15 or H(0-29).
+ * Value is derived from a hash of some caller supplied key,
+ * so that expressions sharing the same text are spread over the field range.
+ */
+public class Hashed extends FieldExpression {
+    private IntegerFieldValue from;
+    private IntegerFieldValue to;
+    private boolean rangeSpecified;
+    private IntegerFieldValue period;
+    private int hash;
+
+    /**
+     * @param from - lowest value; field start range if no range was specified
+     * @param to - highest value; field end range if no range was specified
+     * @param rangeSpecified - true if range was given by the expression, as in H(0-29)
+     * @param period - period, as in H/15; 1 if a single value is selected
+     * @param hash - non negative hash of the caller supplied key
+     */
+    public Hashed(IntegerFieldValue from, IntegerFieldValue to, boolean rangeSpecified, IntegerFieldValue period, int hash) {
+        this.from = Validate.notNull(from, "From must not be null");
+        this.to = Validate.notNull(to, "To must not be null");
+        Validate.isTrue(from.getValue() <= to.getValue(), "Invalid range! [%s,%s]", from.getValue(), to.getValue());
+        this.rangeSpecified = rangeSpecified;
+        this.period = Validate.notNull(period, "Period must not be null");
+        Validate.isTrue(period.getValue() > 0, "Period must be greater than zero");
+        Validate.isTrue(hash >= 0, "Hash must not be negative");
+        this.hash = hash;
+    }
+
+    public IntegerFieldValue getFrom() {
+        return from;
+    }
+
+    public IntegerFieldValue getTo() {
+        return to;
+    }
+
+    public boolean isRangeSpecified() {
+        return rangeSpecified;
+    }
+
+    public IntegerFieldValue getPeriod() {
+        return period;
+    }
+
+    public int getHash() {
+        return hash;
+    }
+
+    /**
+     * First value selected by the hash.
+     * @return int, between from and to
+     */
+    public int getValue() {
+        int span = to.getValue() - from.getValue() + 1;
+        return from.getValue() + hash % (period.getValue() > 1 ? Math.min(period.getValue(), span) : span);
+    }
+
+    /**
+     * Values selected by the hash.
+     * @return List of values, in ascending order. Never empty.
+     */
+    public List<Integer> getValues() {
+        List<Integer> values = Lists.newArrayList();
+        if(period.getValue() == 1){
+            values.add(getValue());
+            return values;
+        }
+        for(int value = getValue(); value <= to.getValue(); value += period.getValue()){
+            values.add(value);
+        }
+        return values;
+    }
+
+    /**
+     * Expression without hash, selecting same values: a single value or values every period, up to the highest value.
+     * @return On or Every instance, never null.
+     */
+    public FieldExpression resolve() {
+        if(period.getValue() == 1){
+            return new On(IntegerFieldValue.of(getValue()));
+        }
+        return new Every(new Between(IntegerFieldValue.of(getValue()), to), period);
+    }
+
+    @Override
+    public String asString() {
+        StringBuilder builder = new StringBuilder("H");
+        if(rangeSpecified){
+            builder.append(String.format("(%s-%s)", from, to));
+        }
+        if(period.getValue() > 1){
+            builder.append(String.format("/%s", period));
+        }
+        return builder.toString();
+    }
+}
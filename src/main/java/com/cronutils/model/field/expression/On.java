@@ -28,15 +28,15 @@ public class On extends FieldExpression {
     }
 
     public On(SpecialCharFieldValue specialChar) {
-        this(new IntegerFieldValue(DEFAULT_NTH_VALUE), specialChar);
+        this(IntegerFieldValue.of(DEFAULT_NTH_VALUE), specialChar);
     }
 
     public On(IntegerFieldValue time) {
-        this(time, new SpecialCharFieldValue(SpecialChar.NONE));
+        this(time, SpecialCharFieldValue.of(SpecialChar.NONE));
     }
 
     public On(IntegerFieldValue time, SpecialCharFieldValue specialChar) {
-        this(time, specialChar, new IntegerFieldValue(-1));
+        this(time, specialChar, IntegerFieldValue.of(-1));
         if(specialChar.getValue().equals(SpecialChar.HASH)){
             throw new IllegalArgumentException("value missing for a#b cron expression");
         }
@@ -87,6 +87,23 @@ public class On extends FieldExpression {
         }
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof On)) {
+            return false;
+        }
+        On on = (On) o;
+        return time.equals(on.time) && specialChar.equals(on.specialChar) && nth.equals(on.nth);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * time.hashCode() + specialChar.hashCode()) + nth.hashCode();
+    }
+
     private boolean isDefault(IntegerFieldValue fieldValue){
         return fieldValue.getValue()==DEFAULT_NTH_VALUE;
     }
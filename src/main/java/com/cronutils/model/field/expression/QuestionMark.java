@@ -11,4 +11,14 @@ public class QuestionMark extends FieldExpression {
     public String asString() {
         return "?";
     }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof QuestionMark;
+    }
+
+    @Override
+    public int hashCode() {
+        return QuestionMark.class.hashCode();
+    }
 }
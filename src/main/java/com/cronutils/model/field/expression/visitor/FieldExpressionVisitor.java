@@ -70,5 +70,12 @@ public interface FieldExpressionVisitor {
      * @return FieldExpression instance, never null
      */
     FieldExpression visit(QuestionMark questionMark);
+
+    /**
+     * Performs action on Hashed instance
+     * @param hashed - Hashed instance, never null
+     * @return FieldExpression instance, never null
+     */
+    FieldExpression visit(Hashed hashed);
 }
 
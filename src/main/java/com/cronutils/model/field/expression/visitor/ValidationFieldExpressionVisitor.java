@@ -31,6 +31,7 @@ public class ValidationFieldExpressionVisitor implements FieldExpressionVisitor
     private Pattern stringToIntKeysPattern;
     private Pattern numsAndCharsPattern;
     private Pattern lwPattern;
+    private Pattern hashedPattern;
     private boolean strictRanges;
 
     public ValidationFieldExpressionVisitor(FieldConstraints constraints, boolean strictRanges){
@@ -38,33 +39,41 @@ public class ValidationFieldExpressionVisitor implements FieldExpressionVisitor
         this.lwPattern = buildLWPattern(constraints.getSpecialChars());
         this.stringToIntKeysPattern = buildStringToIntPattern(constraints.getStringMapping().keySet());
         this.numsAndCharsPattern = Pattern.compile("[#\\?/\\*0-9]");
+        this.hashedPattern = Pattern.compile("\\bH(\\(\\d+-\\d+\\))?");
         this.strictRanges = strictRanges;
     }
 
     @Override
     public FieldExpression visit(FieldExpression expression) {
+        reject(check(expression));
+        return expression;
+    }
+
+    /**
+     * Checks given expression as visit(expression) does, without throwing exceptions.
+     * @param expression - FieldExpression instance, never null
+     * @return description of the first problem found; null if expression is valid
+     */
+    public String check(FieldExpression expression) {
         String unsupportedChars = removeValidChars(expression.asString()).toUpperCase();
         if("".equals(unsupportedChars)){
-            if(expression instanceof Always){
-                return visit((Always)expression);
-            }
-            if(expression instanceof And){
-                return visit((And)expression);
+            if(expression instanceof Always || expression instanceof And || expression instanceof QuestionMark){
+                return null;
             }
             if(expression instanceof Between){
-                return visit((Between)expression);
+                return check((Between)expression);
             }
             if(expression instanceof Every){
-                return visit((Every)expression);
+                return check((Every)expression);
             }
             if(expression instanceof On){
-                return visit((On)expression);
+                return check((On)expression);
             }
-            if(expression instanceof QuestionMark){
-                return visit((QuestionMark)expression);
+            if(expression instanceof Hashed){
+                return check((Hashed)expression);
             }
         }
-        throw new RuntimeException(String.format("Expression contains unsupported chars: %s", unsupportedChars));
+        return String.format("Expression contains unsupported chars: %s", unsupportedChars);
     }
 
     @Override
@@ -79,49 +88,87 @@ public class ValidationFieldExpressionVisitor implements FieldExpressionVisitor
 
     @Override
     public Between visit(Between between) {
-        isInRange(between.getFrom());
-        isInRange(between.getTo());
+        reject(check(between));
+        return between;
+    }
+
+    @Override
+    public Every visit(Every every) {
+        reject(check(every));
+        return every;
+    }
+
+    @Override
+    public On visit(On on) {
+        reject(check(on));
+        return on;
+    }
+
+    @Override
+    public QuestionMark visit(QuestionMark questionMark) {
+        return questionMark;
+    }
+
+    @Override
+    public Hashed visit(Hashed hashed) {
+        reject(check(hashed));
+        return hashed;
+    }
+
+    private String check(Between between) {
+        String problem = firstOf(rangeProblem(between.getFrom()), rangeProblem(between.getTo()));
+        if(problem != null){
+            return problem;
+        }
         if(isSpecialCharNotL(between.getFrom()) || isSpecialCharNotL(between.getTo())){
-            throw new IllegalArgumentException("No special characters allowed in range, except for 'L'");
+            return "No special characters allowed in range, except for 'L'";
         }
         if(strictRanges){
             if(between.getFrom() instanceof IntegerFieldValue && between.getTo() instanceof IntegerFieldValue){
                 int from = ((IntegerFieldValue)between.getFrom()).getValue();
                 int to = ((IntegerFieldValue)between.getTo()).getValue();
                 if(from>to){
-                    throw new IllegalArgumentException(String.format("Invalid range! [%s,%s]", from, to));
+                    return String.format("Invalid range! [%s,%s]", from, to);
                 }
             }
         }
-        return between;
+        return null;
     }
 
-    @Override
-    public Every visit(Every every) {
+    private String check(Every every) {
+        String problem = null;
         if(every.getExpression() instanceof Between){
-            visit((Between)every.getExpression());
+            problem = check((Between)every.getExpression());
         }
         if(every.getExpression() instanceof On){
-            visit((On)every.getExpression());
+            problem = check((On)every.getExpression());
         }
-        isInRange(every.getPeriod());
-        return every;
+        return firstOf(problem, rangeProblem(every.getPeriod()));
     }
 
-    @Override
-    public On visit(On on) {
+    private String check(On on) {
+        String problem = null;
         if(!isDefault(on.getTime())){
-            isInRange(on.getTime());
+            problem = rangeProblem(on.getTime());
         }
-        if(!isDefault(on.getNth())){
-            isInRange(on.getNth());
+        if(problem == null && !isDefault(on.getNth())){
+            problem = rangeProblem(on.getNth());
         }
-        return on;
+        return problem;
     }
 
-    @Override
-    public QuestionMark visit(QuestionMark questionMark) {
-        return questionMark;
+    private String check(Hashed hashed) {
+        return firstOf(firstOf(rangeProblem(hashed.getFrom()), rangeProblem(hashed.getTo())), rangeProblem(hashed.getPeriod()));
+    }
+
+    private static String firstOf(String problem, String other) {
+        return problem != null ? problem : other;
+    }
+
+    private static void reject(String problem) {
+        if(problem != null){
+            throw new IllegalArgumentException(problem);
+        }
     }
 
     @VisibleForTesting
@@ -131,7 +178,7 @@ public class ValidationFieldExpressionVisitor implements FieldExpressionVisitor
 
     @VisibleForTesting
     String removeValidChars(String exp){
-        Matcher numsAndCharsMatcher = numsAndCharsPattern.matcher(exp);
+        Matcher numsAndCharsMatcher = numsAndCharsPattern.matcher(hashedPattern.matcher(exp).replaceAll(""));
         Matcher stringToIntKeysMatcher = stringToIntKeysPattern.matcher(numsAndCharsMatcher.replaceAll(""));
         Matcher specialWordsMatcher = lwPattern.matcher(stringToIntKeysMatcher.replaceAll(""));
         return specialWordsMatcher.replaceAll("").replaceAll("\\s+", "").replaceAll(",", "").replaceAll("-", "");
@@ -171,12 +218,20 @@ public class ValidationFieldExpressionVisitor implements FieldExpressionVisitor
      */
     @VisibleForTesting
     void isInRange(FieldValue fieldValue) {
+        reject(rangeProblem(fieldValue));
+    }
+
+    /**
+     * @return description of the problem if given value is an integer out of range; null otherwise
+     */
+    private String rangeProblem(FieldValue fieldValue) {
         if(fieldValue instanceof IntegerFieldValue){
             int value = ((IntegerFieldValue)fieldValue).getValue();
             if (!constraints.isInRange(value)) {
-                throw new IllegalArgumentException(String.format(OORANGE, value, constraints.getStartRange(), constraints.getEndRange()));
+                return String.format(OORANGE, value, constraints.getStartRange(), constraints.getEndRange());
             }
         }
+        return null;
     }
 
     @VisibleForTesting
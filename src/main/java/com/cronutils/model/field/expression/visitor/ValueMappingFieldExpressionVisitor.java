@@ -62,7 +62,14 @@ public class ValueMappingFieldExpressionVisitor implements FieldExpressionVisito
 
     @Override
     public FieldExpression visit(QuestionMark questionMark) {
-        return new QuestionMark();
+        return FieldExpressionFactory.questionMark();
+    }
+
+    @Override
+    public FieldExpression visit(Hashed hashed) {
+        IntegerFieldValue from = (IntegerFieldValue)transform.apply(hashed.getFrom());
+        IntegerFieldValue to = (IntegerFieldValue)transform.apply(hashed.getTo());
+        return new Hashed(from, to, hashed.isRangeSpecified(), hashed.getPeriod(), hashed.getHash());
     }
 
     @Override
@@ -85,6 +92,9 @@ public class ValueMappingFieldExpressionVisitor implements FieldExpressionVisito
         if(expression instanceof QuestionMark){
             return visit((QuestionMark)expression);
         }
+        if(expression instanceof Hashed){
+            return visit((Hashed)expression);
+        }
         return expression;
     }
 }
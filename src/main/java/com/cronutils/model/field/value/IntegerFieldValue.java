@@ -13,15 +13,49 @@ package com.cronutils.model.field.value;
  * limitations under the License.
  */
 public class IntegerFieldValue extends FieldValue<Integer> {
+    private static final int CACHE_LOW = -1;
+    private static final int CACHE_HIGH = 99;
+    /**
+     * Shared instances for values used by cron fields and -1, used as default nth value.
+     */
+    private static final IntegerFieldValue[] cache = new IntegerFieldValue[CACHE_HIGH - CACHE_LOW + 1];
+    static {
+        for(int j = 0; j < cache.length; j++){
+            cache[j] = new IntegerFieldValue(CACHE_LOW + j);
+        }
+    }
+
     private int value;
 
     public IntegerFieldValue(int value){
         this.value=value;
     }
 
+    /**
+     * Provides an instance for given value, shared for values between -1 and 99.
+     * @param value - int value
+     * @return IntegerFieldValue instance, never null
+     */
+    public static IntegerFieldValue of(int value){
+        if(value >= CACHE_LOW && value <= CACHE_HIGH){
+            return cache[value - CACHE_LOW];
+        }
+        return new IntegerFieldValue(value);
+    }
+
     @Override
     public Integer getValue() {
         return value;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof IntegerFieldValue && value == ((IntegerFieldValue) o).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value;
+    }
 }
 
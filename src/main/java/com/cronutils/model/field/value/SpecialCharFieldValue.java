@@ -16,6 +16,13 @@ import org.apache.commons.lang3.Validate;
  * limitations under the License.
  */
 public class SpecialCharFieldValue extends FieldValue<SpecialChar> {
+    private static final SpecialCharFieldValue[] cache = new SpecialCharFieldValue[SpecialChar.values().length];
+    static {
+        for(SpecialChar specialChar : SpecialChar.values()){
+            cache[specialChar.ordinal()] = new SpecialCharFieldValue(specialChar);
+        }
+    }
+
     private SpecialChar specialChar = SpecialChar.NONE;
 
     public SpecialCharFieldValue(SpecialChar specialChar){
@@ -23,6 +30,26 @@ public class SpecialCharFieldValue extends FieldValue<SpecialChar> {
         this.specialChar = specialChar;
     }
 
+    /**
+     * Provides shared instance for given special char
+     * @param specialChar - special char. If null, a NullPointerException will be raised.
+     * @return SpecialCharFieldValue instance, never null
+     */
+    public static SpecialCharFieldValue of(SpecialChar specialChar){
+        Validate.notNull(specialChar, "special char must not be null");
+        return cache[specialChar.ordinal()];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof SpecialCharFieldValue && specialChar == ((SpecialCharFieldValue) o).specialChar);
+    }
+
+    @Override
+    public int hashCode() {
+        return specialChar.ordinal();
+    }
+
     @Override
     public SpecialChar getValue() {
         return specialChar;
@@ -0,0 +1,136 @@
+package com.cronutils.model.time;
+
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Proleptic gregorian calendar arithmetic over primitive values.
+ * Local seconds are seconds elapsed since 1970-01-01T00:00:00 in wall clock time,
+ * so that date fields can be read and built without creating date instances.
+ */
+public final class CalendarArithmetic {
+    static final int SECONDS_PER_MINUTE = 60;
+    static final int SECONDS_PER_HOUR = 3600;
+    static final int SECONDS_PER_DAY = 86400;
+    private static final int DAYS_0000_TO_1970 = 719468;
+    private static final int DAYS_PER_CYCLE = 146097;
+
+    private CalendarArithmetic(){}
+
+    static boolean isLeapYear(int year){
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * @param year - year
+     * @param month - month of year, 1-12
+     * @return amount of days in given month
+     */
+    public static int lengthOfMonth(int year, int month){
+        switch (month){
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * @return days elapsed since 1970-01-01 for given date
+     */
+    static long epochDay(int year, int month, int day){
+        long y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_CYCLE + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    static long localSecond(int year, int month, int day, int hour, int minute, int second){
+        return epochDay(year, month, day) * SECONDS_PER_DAY + hour * SECONDS_PER_HOUR + minute * SECONDS_PER_MINUTE + second;
+    }
+
+    static long epochDayOf(long localSecond){
+        return floorDiv(localSecond, SECONDS_PER_DAY);
+    }
+
+    static int secondOfDay(long localSecond){
+        return (int) (localSecond - epochDayOf(localSecond) * SECONDS_PER_DAY);
+    }
+
+    /**
+     * Packs the date for given epoch day into a single int, so it can be decomposed without allocations.
+     * Use year(), month() and day() to read fields back.
+     * @param epochDay - days elapsed since 1970-01-01
+     * @return packed date
+     */
+    static int packedDate(long epochDay){
+        long z = epochDay + DAYS_0000_TO_1970;
+        long era = (z >= 0 ? z : z - DAYS_PER_CYCLE + 1) / DAYS_PER_CYCLE;
+        long dayOfEra = z - era * DAYS_PER_CYCLE;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+        return (year << 9) | (month << 5) | day;
+    }
+
+    static int year(int packedDate){
+        return packedDate >> 9;
+    }
+
+    static int month(int packedDate){
+        return (packedDate >> 5) & 0xF;
+    }
+
+    static int day(int packedDate){
+        return packedDate & 0x1F;
+    }
+
+    /**
+     * @param year - year
+     * @param month - month of year, 1-12
+     * @param day - day of month
+     * @return day of week for given date: 1 for monday up to 7 for sunday, as in jodatime.
+     */
+    public static int dayOfWeek(int year, int month, int day){
+        return dayOfWeek(epochDay(year, month, day));
+    }
+
+    /**
+     * @return day of week for given epoch day: 1 for monday up to 7 for sunday, as in jodatime.
+     */
+    static int dayOfWeek(long epochDay){
+        return (int) floorMod(epochDay + 3, 7) + 1;
+    }
+
+    static long floorDiv(long dividend, long divisor){
+        long quotient = dividend / divisor;
+        if((dividend % divisor != 0) && ((dividend ^ divisor) < 0)){
+            quotient--;
+        }
+        return quotient;
+    }
+
+    static long floorMod(long dividend, long divisor){
+        return dividend - floorDiv(dividend, divisor) * divisor;
+    }
+}
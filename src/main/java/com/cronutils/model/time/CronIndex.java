@@ -0,0 +1,273 @@
+package com.cronutils.model.time;
+
+import org.apache.commons.lang3.Validate;
+import org.joda.time.DateTimeZone;
+
+import java.util.Arrays;
+import java.util.TimeZone;
+
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Index of jobs by next execution, answering which jobs fire at or before a given instant.
+ * Jobs are kept in a min heap of (next execution, job id) backed by primitive arrays;
+ * only jobs that fire are moved and re-armed, so polling does not depend on the amount of jobs.
+ * Instants are seconds from 1970-01-01T00:00:00Z.
+ * This class is not thread safe.
+ */
+public class CronIndex {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NOT_ARMED = -1;
+
+    //heap: executions and job ids at same positions
+    private long[] heapExecutions;
+    private int[] heapJobs;
+    private int heapSize;
+
+    //jobs, by id
+    private ExecutionTime[] executionTimes;
+    private ExecutionZone[] zones;
+    private long[] nextExecutions;
+    private int[] heapPositions;
+    private int jobsCapacity;
+    private int jobs;
+
+    //ids of removed jobs, available for reuse
+    private int[] freeIds;
+    private int freeIdsSize;
+
+    public CronIndex() {
+        heapExecutions = new long[INITIAL_CAPACITY];
+        heapJobs = new int[INITIAL_CAPACITY];
+        executionTimes = new ExecutionTime[INITIAL_CAPACITY];
+        zones = new ExecutionZone[INITIAL_CAPACITY];
+        nextExecutions = new long[INITIAL_CAPACITY];
+        heapPositions = new int[INITIAL_CAPACITY];
+        freeIds = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Registers a job.
+     * @param executionTime - execution time of the job. If null, a NullPointerException will be raised.
+     * @param zone - time zone in which executions are evaluated. If null, a NullPointerException will be raised.
+     * @param fromEpochSecond - job fires at executions strictly after this instant
+     * @return job id, used to identify the job when it fires
+     */
+    public int add(ExecutionTime executionTime, DateTimeZone zone, long fromEpochSecond) {
+        Validate.notNull(zone, "DateTimeZone must not be null");
+        return add(executionTime, ExecutionZone.of(zone), fromEpochSecond);
+    }
+
+    /**
+     * Registers a job.
+     * @param executionTime - execution time of the job. If null, a NullPointerException will be raised.
+     * @param zone - time zone in which executions are evaluated. If null, a NullPointerException will be raised.
+     * @param fromEpochSecond - job fires at executions strictly after this instant
+     * @return job id, used to identify the job when it fires
+     */
+    public int add(ExecutionTime executionTime, TimeZone zone, long fromEpochSecond) {
+        Validate.notNull(zone, "TimeZone must not be null");
+        return add(executionTime, ExecutionZone.of(zone), fromEpochSecond);
+    }
+
+    private int add(ExecutionTime executionTime, ExecutionZone zone, long fromEpochSecond) {
+        Validate.notNull(executionTime, "ExecutionTime must not be null");
+        int jobId;
+        if(freeIdsSize > 0){
+            jobId = freeIds[--freeIdsSize];
+        }else{
+            if(jobsCapacity == executionTimes.length){
+                growJobs();
+            }
+            jobId = jobsCapacity++;
+        }
+        executionTimes[jobId] = executionTime;
+        zones[jobId] = zone;
+        heapPositions[jobId] = NOT_ARMED;
+        jobs++;
+        arm(jobId, executionTime.nextExecution(fromEpochSecond, zone));
+        return jobId;
+    }
+
+    /**
+     * Unregisters a job. Its id may be reused by jobs added later.
+     * @param jobId - job id
+     * @return true if job was registered, false otherwise.
+     */
+    public boolean remove(int jobId) {
+        if(!contains(jobId)){
+            return false;
+        }
+        if(heapPositions[jobId] != NOT_ARMED){
+            removeAt(heapPositions[jobId]);
+        }
+        executionTimes[jobId] = null;
+        zones[jobId] = null;
+        if(freeIdsSize == freeIds.length){
+            freeIds = Arrays.copyOf(freeIds, freeIds.length * 2);
+        }
+        freeIds[freeIdsSize++] = jobId;
+        jobs--;
+        return true;
+    }
+
+    /**
+     * @param jobId - job id
+     * @return true if job is registered, false otherwise.
+     */
+    public boolean contains(int jobId) {
+        return jobId >= 0 && jobId < jobsCapacity && executionTimes[jobId] != null;
+    }
+
+    /**
+     * @return amount of registered jobs, including those with no more executions.
+     */
+    public int size() {
+        return jobs;
+    }
+
+    /**
+     * @return earliest execution among all jobs; ExecutionTime.NO_EXECUTION if there is none.
+     */
+    public long nextExecution() {
+        return heapSize == 0 ? ExecutionTime.NO_EXECUTION : heapExecutions[0];
+    }
+
+    /**
+     * @param jobId - job id of a registered job
+     * @return next execution of given job; ExecutionTime.NO_EXECUTION if there is none.
+     */
+    public long nextExecution(int jobId) {
+        Validate.isTrue(contains(jobId), "No job registered for id %s", jobId);
+        return nextExecutions[jobId];
+    }
+
+    /**
+     * Takes executions at or before given instant, earliest first, and re-arms fired jobs at their next execution.
+     * A job that missed several executions is reported once per execution.
+     * At most jobIds.length executions are taken: poll again while the arrays get filled.
+     * @param epochSecond - instant, as seconds from 1970-01-01T00:00:00Z
+     * @param jobIds - receives ids of fired jobs. If null, a NullPointerException will be raised.
+     * @param executions - receives executions, at same positions as job ids.
+     *                   If null, a NullPointerException will be raised. Must be as long as jobIds.
+     * @return amount of executions taken
+     */
+    public int pollDue(long epochSecond, int[] jobIds, long[] executions) {
+        Validate.notNull(jobIds, "Job ids must not be null");
+        Validate.notNull(executions, "Executions must not be null");
+        Validate.isTrue(jobIds.length == executions.length, "Job ids and executions must have same length");
+        int count = 0;
+        while(count < jobIds.length && heapSize > 0 && heapExecutions[0] <= epochSecond){
+            int jobId = heapJobs[0];
+            long execution = heapExecutions[0];
+            jobIds[count] = jobId;
+            executions[count] = execution;
+            count++;
+            long next = executionTimes[jobId].nextExecution(execution, zones[jobId]);
+            if(next == ExecutionTime.NO_EXECUTION){
+                removeAt(0);
+                nextExecutions[jobId] = ExecutionTime.NO_EXECUTION;
+            }else{
+                //root is replaced by a later execution: it can only move down
+                heapExecutions[0] = next;
+                nextExecutions[jobId] = next;
+                siftDown(0);
+            }
+        }
+        return count;
+    }
+
+    private void arm(int jobId, long execution) {
+        nextExecutions[jobId] = execution;
+        if(execution == ExecutionTime.NO_EXECUTION){
+            return;
+        }
+        if(heapSize == heapExecutions.length){
+            heapExecutions = Arrays.copyOf(heapExecutions, heapSize * 2);
+            heapJobs = Arrays.copyOf(heapJobs, heapSize * 2);
+        }
+        heapExecutions[heapSize] = execution;
+        heapJobs[heapSize] = jobId;
+        heapPositions[jobId] = heapSize;
+        heapSize++;
+        siftUp(heapSize - 1);
+    }
+
+    private void removeAt(int position) {
+        int jobId = heapJobs[position];
+        heapPositions[jobId] = NOT_ARMED;
+        heapSize--;
+        if(position == heapSize){
+            return;
+        }
+        heapExecutions[position] = heapExecutions[heapSize];
+        heapJobs[position] = heapJobs[heapSize];
+        heapPositions[heapJobs[position]] = position;
+        siftDown(position);
+        siftUp(position);
+    }
+
+    private void siftUp(int position) {
+        long execution = heapExecutions[position];
+        int jobId = heapJobs[position];
+        while(position > 0){
+            int parent = (position - 1) >>> 1;
+            if(heapExecutions[parent] <= execution){
+                break;
+            }
+            move(parent, position);
+            position = parent;
+        }
+        place(position, execution, jobId);
+    }
+
+    private void siftDown(int position) {
+        long execution = heapExecutions[position];
+        int jobId = heapJobs[position];
+        int half = heapSize >>> 1;
+        while(position < half){
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if(right < heapSize && heapExecutions[right] < heapExecutions[child]){
+                child = right;
+            }
+            if(execution <= heapExecutions[child]){
+                break;
+            }
+            move(child, position);
+            position = child;
+        }
+        place(position, execution, jobId);
+    }
+
+    private void move(int from, int to) {
+        heapExecutions[to] = heapExecutions[from];
+        heapJobs[to] = heapJobs[from];
+        heapPositions[heapJobs[to]] = to;
+    }
+
+    private void place(int position, long execution, int jobId) {
+        heapExecutions[position] = execution;
+        heapJobs[position] = jobId;
+        heapPositions[jobId] = position;
+    }
+
+    private void growJobs() {
+        int capacity = executionTimes.length * 2;
+        executionTimes = Arrays.copyOf(executionTimes, capacity);
+        zones = Arrays.copyOf(zones, capacity);
+        nextExecutions = Arrays.copyOf(nextExecutions, capacity);
+        heapPositions = Arrays.copyOf(heapPositions, capacity);
+    }
+}
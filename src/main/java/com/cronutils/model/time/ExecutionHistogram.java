@@ -0,0 +1,111 @@
+package com.cronutils.model.time;
+
+import org.apache.commons.lang3.Validate;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Duration;
+
+import java.util.Collection;
+import java.util.TimeZone;
+
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Forecasts load of many cron expressions: counts how many executions land in each bucket
+ * (ex.: each minute) of a time window, so collisions such as everyone picking 0 0 * * * can be spotted.
+ * Counts are derived from compiled field values, day by day, without enumerating executions.
+ */
+public final class ExecutionHistogram {
+
+    private ExecutionHistogram(){}
+
+    /**
+     * Counts executions per bucket.
+     * @param executionTimes - execution times. If null, a NullPointerException will be raised.
+     * @param from - included start of the window. If null, a NullPointerException will be raised.
+     * @param to - excluded end of the window. If null, a NullPointerException will be raised.
+     * @param bucket - length of each bucket, in whole seconds. If null, a NullPointerException will be raised.
+     * @return execution counts, where element j covers [from + j * bucket, from + (j + 1) * bucket).
+     * Cron expressions are evaluated in time zone of from.
+     */
+    public static long[] count(Collection<ExecutionTime> executionTimes, DateTime from, DateTime to, Duration bucket){
+        Validate.notNull(from, "From date must not be null");
+        Validate.notNull(to, "To date must not be null");
+        Validate.notNull(bucket, "Bucket must not be null");
+        Validate.isTrue(bucket.getMillis() % 1000 == 0, "Bucket must be a whole amount of seconds");
+        Validate.isTrue(from.getMillisOfSecond() == 0 && to.getMillisOfSecond() == 0, "Window must start and end at whole seconds");
+        Validate.isTrue(bucket.getStandardSeconds() <= Integer.MAX_VALUE, "Bucket must not exceed %s seconds", Integer.MAX_VALUE);
+        return count(executionTimes, from.getMillis() / 1000, to.getMillis() / 1000,
+                (int) bucket.getStandardSeconds(), ExecutionZone.of(from.getZone()));
+    }
+
+    /**
+     * Counts executions per bucket.
+     * @param executionTimes - execution times. If null, a NullPointerException will be raised.
+     * @param fromEpochSecond - included start of the window, as seconds from 1970-01-01T00:00:00Z
+     * @param toEpochSecond - excluded end of the window, as seconds from 1970-01-01T00:00:00Z
+     * @param bucketSeconds - length of each bucket, in seconds
+     * @param zone - time zone in which cron expressions are evaluated. If null, a NullPointerException will be raised.
+     * @return execution counts, where element j covers [fromEpochSecond + j * bucketSeconds, fromEpochSecond + (j + 1) * bucketSeconds)
+     */
+    public static long[] count(Collection<ExecutionTime> executionTimes, long fromEpochSecond, long toEpochSecond,
+                               int bucketSeconds, DateTimeZone zone){
+        Validate.notNull(zone, "DateTimeZone must not be null");
+        return count(executionTimes, fromEpochSecond, toEpochSecond, bucketSeconds, ExecutionZone.of(zone));
+    }
+
+    /**
+     * Counts executions per bucket, computed with java.util.TimeZone rules.
+     * @param executionTimes - execution times. If null, a NullPointerException will be raised.
+     * @param fromEpochSecond - included start of the window, as seconds from 1970-01-01T00:00:00Z
+     * @param toEpochSecond - excluded end of the window, as seconds from 1970-01-01T00:00:00Z
+     * @param bucketSeconds - length of each bucket, in seconds
+     * @param zone - time zone in which cron expressions are evaluated. If null, a NullPointerException will be raised.
+     * @return execution counts, where element j covers [fromEpochSecond + j * bucketSeconds, fromEpochSecond + (j + 1) * bucketSeconds)
+     */
+    public static long[] count(Collection<ExecutionTime> executionTimes, long fromEpochSecond, long toEpochSecond,
+                               int bucketSeconds, TimeZone zone){
+        Validate.notNull(zone, "TimeZone must not be null");
+        return count(executionTimes, fromEpochSecond, toEpochSecond, bucketSeconds, ExecutionZone.of(zone));
+    }
+
+    /**
+     * @param buckets - execution counts
+     * @return index of the bucket with most executions; lowest index on ties, -1 if there are no buckets.
+     */
+    public static int peak(long[] buckets){
+        Validate.notNull(buckets, "Buckets must not be null");
+        int peak = -1;
+        for(int j = 0; j < buckets.length; j++){
+            if(peak < 0 || buckets[j] > buckets[peak]){
+                peak = j;
+            }
+        }
+        return peak;
+    }
+
+    private static long[] count(Collection<ExecutionTime> executionTimes, long fromEpochSecond, long toEpochSecond,
+                                int bucketSeconds, ExecutionZone zone){
+        Validate.notNull(executionTimes, "Execution times must not be null");
+        Validate.isTrue(bucketSeconds > 0, "Bucket must be at least one second");
+        Validate.isTrue(toEpochSecond > fromEpochSecond, "Window end must be after window start");
+        long bucketCount = (toEpochSecond - fromEpochSecond + bucketSeconds - 1) / bucketSeconds;
+        Validate.isTrue(bucketCount <= Integer.MAX_VALUE, "Window must not exceed %s buckets", Integer.MAX_VALUE);
+        long[] buckets = new long[(int) bucketCount];
+        for(ExecutionTime executionTime : executionTimes){
+            executionTime.addExecutions(buckets, fromEpochSecond, toEpochSecond, bucketSeconds, zone);
+        }
+        return buckets;
+    }
+}
@@ -0,0 +1,66 @@
+package com.cronutils.model.time;
+
+import com.google.common.collect.AbstractIterator;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Lazily iterates executions of a cron expression, forwards or backwards in time.
+ * Keeps the last execution as cursor,
+ * so each step resumes the search from there instead of starting over from a date.
+ */
+class ExecutionIterator extends AbstractIterator<DateTime> {
+    private final ExecutionTime executionTime;
+    private final DateTimeZone zone;
+    private final ExecutionZone executionZone;
+    private final long endEpochSecond;
+    private final boolean backwards;
+    private long lastEpochSecond;
+
+    /**
+     * @param executionTime - execution time to iterate
+     * @param zone - time zone in which cron expression is evaluated
+     * @param startEpochSecond - executions are strictly after this instant (strictly before, if backwards)
+     * @param endEpochSecond - executions are at or before this instant (at or after, if backwards)
+     * @param backwards - true if executions are provided from latest to earliest
+     */
+    ExecutionIterator(ExecutionTime executionTime, DateTimeZone zone, long startEpochSecond, long endEpochSecond, boolean backwards) {
+        this.executionTime = executionTime;
+        this.zone = zone;
+        this.executionZone = ExecutionZone.of(zone);
+        this.endEpochSecond = endEpochSecond;
+        this.backwards = backwards;
+        this.lastEpochSecond = startEpochSecond;
+    }
+
+    @Override
+    protected DateTime computeNext() {
+        long execution;
+        if(backwards){
+            execution = executionTime.lastExecution(lastEpochSecond, executionZone);
+            if(execution == ExecutionTime.NO_EXECUTION || execution < endEpochSecond){
+                return endOfData();
+            }
+        }else{
+            execution = executionTime.nextExecution(lastEpochSecond, executionZone);
+            if(execution == ExecutionTime.NO_EXECUTION || execution > endEpochSecond){
+                return endOfData();
+            }
+        }
+        lastEpochSecond = execution;
+        return new DateTime(execution * 1000L, zone);
+    }
+}
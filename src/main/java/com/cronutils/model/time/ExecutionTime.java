@@ -5,13 +5,15 @@ import com.cronutils.model.Cron;
 import com.cronutils.model.definition.CronDefinition;
 import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.field.constraint.FieldConstraintsBuilder;
+import com.cronutils.model.field.definition.FieldDefinition;
 import com.cronutils.model.field.definition.DayOfWeekFieldDefinition;
 import com.cronutils.model.field.expression.Always;
 import com.cronutils.model.field.expression.QuestionMark;
 import com.cronutils.model.time.generator.FieldValueGenerator;
 import com.cronutils.model.time.generator.FieldValueGeneratorFactory;
-import com.cronutils.model.time.generator.NoSuchValueException;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 
@@ -24,9 +26,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static com.cronutils.model.field.CronFieldName.DAY_OF_WEEK;
 import static com.cronutils.model.field.value.SpecialChar.QUESTION_MARK;
@@ -49,9 +58,27 @@ import static com.cronutils.model.field.value.SpecialChar.QUESTION_MARK;
  */
 public class ExecutionTime {
 	private static final Logger log = LoggerFactory.getLogger(ExecutionTime.class);
+    /**
+     * Amount of months for which day candidates are kept. Must be a power of two.
+     */
+    private static final int DAYS_CACHE_SIZE = 64;
+    /**
+     * Default amount of candidate years a search goes through before giving up:
+     * the gregorian calendar repeats itself every 400 years.
+     */
+    public static final int DEFAULT_SEARCH_HORIZON_YEARS = 400;
+    /**
+     * Returned by primitive methods when no execution exists.
+     */
+    public static final long NO_EXECUTION = Long.MIN_VALUE;
+    /**
+     * Minimum amount of execution times per chunk when computing next executions in parallel.
+     */
+    private static final int MIN_BATCH_CHUNK_SIZE = 256;
 
 	private CronDefinition cronDefinition;
     private FieldValueGenerator yearsValueGenerator;
+    private YearBitmap years;
     private CronField daysOfWeekCronField;
     private CronField daysOfMonthCronField;
 
@@ -60,18 +87,127 @@ public class ExecutionTime {
     private TimeNode minutes;
     private TimeNode seconds;
 
+    private boolean questionMarkSupported;
+    private WeekDay mondayDoWValue;
+    private AtomicReferenceArray<MonthDays> daysCache;
+    private int searchHorizonYears;
+    /**
+     * Seconds between consecutive local matches if the cron expression is a fixed period, zero otherwise.
+     * Local matches are then periodPhase + k * period, between periodStart and periodEnd.
+     */
+    private long period;
+    private long periodPhase;
+    private long periodStart;
+    private long periodEnd;
+    private GapPolicy gapPolicy = GapPolicy.SHIFT;
+    private OverlapPolicy overlapPolicy = OverlapPolicy.ONCE;
+
     @VisibleForTesting
     ExecutionTime(CronDefinition cronDefinition, FieldValueGenerator yearsValueGenerator, CronField daysOfWeekCronField,
                   CronField daysOfMonthCronField, TimeNode months, TimeNode hours,
                   TimeNode minutes, TimeNode seconds) {
+        this(cronDefinition, yearsValueGenerator, daysOfWeekCronField, daysOfMonthCronField,
+                months, hours, minutes, seconds, DEFAULT_SEARCH_HORIZON_YEARS);
+    }
+
+    ExecutionTime(CronDefinition cronDefinition, FieldValueGenerator yearsValueGenerator, CronField daysOfWeekCronField,
+                  CronField daysOfMonthCronField, TimeNode months, TimeNode hours,
+                  TimeNode minutes, TimeNode seconds, int searchHorizonYears) {
+        Validate.isTrue(searchHorizonYears > 0, "Search horizon must be at least one year");
+        this.searchHorizonYears = searchHorizonYears;
         this.cronDefinition = Validate.notNull(cronDefinition);
         this.yearsValueGenerator = Validate.notNull(yearsValueGenerator);
+        FieldDefinition yearsDefinition = cronDefinition.getFieldDefinition(CronFieldName.YEAR);
+        this.years = new YearBitmap(yearsValueGenerator, yearsDefinition != null ? yearsDefinition.getConstraints() :
+                FieldConstraintsBuilder.instance().forField(CronFieldName.YEAR).createConstraintsInstance());
         this.daysOfWeekCronField = Validate.notNull(daysOfWeekCronField);
         this.daysOfMonthCronField = Validate.notNull(daysOfMonthCronField);
         this.months = Validate.notNull(months);
         this.hours = Validate.notNull(hours);
         this.minutes = Validate.notNull(minutes);
         this.seconds = Validate.notNull(seconds);
+        this.questionMarkSupported =
+                cronDefinition.getFieldDefinition(DAY_OF_WEEK).getConstraints().getSpecialChars().contains(QUESTION_MARK);
+        this.mondayDoWValue = ((DayOfWeekFieldDefinition) cronDefinition.getFieldDefinition(DAY_OF_WEEK)).getMondayDoWValue();
+        this.daysCache = new AtomicReferenceArray<MonthDays>(DAYS_CACHE_SIZE);
+        initPeriod();
+    }
+
+    /**
+     * Detects if the cron expression is equivalent to "every N seconds", aligned to some second of day:
+     * every day of every year must match, and hours, minutes and seconds must tile the day evenly.
+     */
+    private void initPeriod(){
+        if(!isEveryDay(daysOfMonthCronField) || !isEveryDay(daysOfWeekCronField) || !years.isFull()){
+            return;
+        }
+        for(int month = 1; month <= 12; month++){
+            if(!months.contains(month)){
+                return;
+            }
+        }
+        int secondsStep = step(seconds, 60);
+        int minutesStep = step(minutes, 60);
+        int hoursStep = step(hours, 24);
+        if(secondsStep == 0 || minutesStep == 0 || hoursStep == 0){
+            return;
+        }
+        if(secondsStep < 60){
+            if(minutesStep != 1 || hoursStep != 1){
+                return;
+            }
+            period = secondsStep;
+        }else if(minutesStep < 60){
+            if(hoursStep != 1){
+                return;
+            }
+            period = minutesStep * CalendarArithmetic.SECONDS_PER_MINUTE;
+        }else{
+            period = hoursStep * CalendarArithmetic.SECONDS_PER_HOUR;
+        }
+        periodPhase = hours.getLowestValue() * CalendarArithmetic.SECONDS_PER_HOUR
+                + minutes.getLowestValue() * CalendarArithmetic.SECONDS_PER_MINUTE + seconds.getLowestValue();
+        periodStart = CalendarArithmetic.localSecond(years.getFirstYear(), 1, 1, 0, 0, 0);
+        periodEnd = years.getLastYear() == Integer.MAX_VALUE ? Long.MAX_VALUE :
+                CalendarArithmetic.localSecond(years.getLastYear(), 12, 31, 23, 59, 59);
+    }
+
+    private static boolean isEveryDay(CronField cronField){
+        return cronField.getExpression() instanceof Always || cronField.getExpression() instanceof QuestionMark;
+    }
+
+    /**
+     * @param node - candidate values
+     * @param range - amount of values the field may take, starting at zero
+     * @return distance between candidates if they are evenly spread over the whole range; zero otherwise
+     */
+    private static int step(TimeNode node, int range){
+        List<Integer> values = node.getValues();
+        if(range % values.size() != 0){
+            return 0;
+        }
+        int step = range / values.size();
+        int first = values.get(0);
+        if(first < 0 || first >= step){
+            return 0;
+        }
+        for(int j = 1; j < values.size(); j++){
+            if(values.get(j) != first + j * step){
+                return 0;
+            }
+        }
+        return step;
+    }
+
+    /**
+     * Provides the period of the cron expression, if it is equivalent to "every N seconds"
+     * (ex.: 0 0/5 * * * ?, every five minutes): executions are then computed with plain arithmetic.
+     * The period applies to wall clock time: executions are evenly spaced in time zones without offset transitions,
+     * so they can be scheduled at fixed rate from nextExecution.
+     * @return Optional holding the period; absent if executions are not evenly spaced.
+     */
+    public Optional<Duration> getPeriod(){
+        return period == 0 ? Optional.<Duration>absent() : Optional.of(Duration.standardSeconds(period));
     }
 
     /**
@@ -80,8 +216,21 @@ public class ExecutionTime {
      * @return ExecutionTime instance
      */
     public static ExecutionTime forCron(Cron cron) {
+        return forCron(cron, DEFAULT_SEARCH_HORIZON_YEARS);
+    }
+
+    /**
+     * Creates execution time for given Cron, bounding how far searches go.
+     * @param cron - Cron instance
+     * @param searchHorizonYears - amount of years a search may move away from the reference year,
+     *                           including years skipped at once, before reporting there is no execution.
+     *                           Must be greater than zero.
+     * @return ExecutionTime instance
+     */
+    public static ExecutionTime forCron(Cron cron, int searchHorizonYears) {
         Map<CronFieldName, CronField> fields = cron.retrieveFieldsAsMap();
-        ExecutionTimeBuilder executionTimeBuilder = new ExecutionTimeBuilder(cron.getCronDefinition());
+        ExecutionTimeBuilder executionTimeBuilder =
+                new ExecutionTimeBuilder(cron.getCronDefinition()).withSearchHorizon(searchHorizonYears);
         for(CronFieldName name : CronFieldName.values()){
             if(fields.get(name)!=null){
                 switch (name){
@@ -112,228 +261,898 @@ public class ExecutionTime {
         return executionTimeBuilder.build();
     }
 
+    /**
+     * Provides an execution time for the same cron, which resolves time zone transitions as given.
+     * By default, executions in a gap are shifted and executions in an overlap happen once.
+     * @param gapPolicy - how wall clock times skipped by a transition are handled. If null, a NullPointerException will be raised.
+     * @param overlapPolicy - how wall clock times repeated by a transition are handled. If null, a NullPointerException will be raised.
+     * @return ExecutionTime instance, never null.
+     */
+    public ExecutionTime withTransitionPolicies(GapPolicy gapPolicy, OverlapPolicy overlapPolicy){
+        ExecutionTime executionTime = new ExecutionTime(cronDefinition, yearsValueGenerator, daysOfWeekCronField,
+                daysOfMonthCronField, months, hours, minutes, seconds, searchHorizonYears);
+        executionTime.gapPolicy = Validate.notNull(gapPolicy, "GapPolicy must not be null");
+        executionTime.overlapPolicy = Validate.notNull(overlapPolicy, "OverlapPolicy must not be null");
+        return executionTime;
+    }
+
     /**
      * Provide nearest date for next execution.
+     * Executions fall on whole seconds: milliseconds of given date are not carried over to the result,
+     * as earlier versions did.
      * @param date - jodatime DateTime instance. If null, a NullPointerException will be raised.
      * @return DateTime instance, never null. Next execution time.
      */
     public DateTime nextExecution(DateTime date) {
         Validate.notNull(date);
+        long execution = nextExecution(epochSecondOf(date.getMillis()), date.getZone());
+        if(execution == NO_EXECUTION){
+            throw new IllegalArgumentException(
+                    String.format("No execution found after %s within %s years", date, searchHorizonYears)
+            );
+        }
+        return new DateTime(execution * 1000L, date.getZone());
+    }
+
+    /**
+     * Provides day of month candidates for given year and month.
+     * @param year - year
+     * @param month - month of year, 1-12
+     * @return TimeNode with day of month candidates, never null.
+     * @throws IllegalArgumentException if no day of given month matches the cron expression.
+     */
+    TimeNode generateDays(int year, int month){
+        TimeNode days = resolveDays(year, month);
+        if(days == null){
+            throw new IllegalArgumentException(String.format("No day of month matches for %s-%s", year, month));
+        }
+        return days;
+    }
+
+    /**
+     * Provides day of month candidates for given year and month, restricted to days the month actually has.
+     * Candidates are cached per (year, month): the cache is direct mapped,
+     * so it never holds more than DAYS_CACHE_SIZE entries
+     * and a lookup never blocks or allocates.
+     * @param year - year
+     * @param month - month of year, 1-12
+     * @return TimeNode with day of month candidates; null if no day of given month matches.
+     */
+    private TimeNode resolveDays(int year, int month){
+        int key = year * 12 + month - 1;
+        int index = key & (DAYS_CACHE_SIZE - 1);
+        MonthDays cached = daysCache.get(index);
+        if(cached != null && cached.key == key){
+            return cached.days;
+        }
+        List<Integer> candidates;
+        if(questionMarkSupported){
+            candidates = generateDayCandidatesQuestionMarkSupported(year, month, mondayDoWValue);
+        }else{
+            candidates = generateDayCandidatesQuestionMarkNotSupported(year, month, mondayDoWValue);
+        }
+        int lengthOfMonth = CalendarArithmetic.lengthOfMonth(year, month);
+        List<Integer> validDays = Lists.newArrayListWithCapacity(candidates.size());
+        for(Integer day : candidates){
+            if(day >= 1 && day <= lengthOfMonth){
+                validDays.add(day);
+            }
+        }
+        TimeNode days = validDays.isEmpty() ? null : new TimeNode(validDays);
+        daysCache.set(index, new MonthDays(key, days));
+        return days;
+    }
+
+    /**
+     * Provide next execution for given instant, without creating date instances.
+     * @param epochSecond - reference instant, as seconds from 1970-01-01T00:00:00Z
+     * @param zone - time zone in which cron expression is evaluated. If null, a NullPointerException will be raised.
+     * @return next execution as seconds from 1970-01-01T00:00:00Z, strictly after reference;
+     * NO_EXECUTION if there is none.
+     */
+    public long nextExecution(long epochSecond, DateTimeZone zone){
+        Validate.notNull(zone, "DateTimeZone must not be null");
+        return nextExecution(epochSecond, ExecutionZone.of(zone));
+    }
+
+    /**
+     * Provide next execution for given instant, without creating date instances.
+     * Computed with java.util.TimeZone rules, so jodatime time zone data is not required.
+     * @param epochSecond - reference instant, as seconds from 1970-01-01T00:00:00Z
+     * @param zone - time zone in which cron expression is evaluated. If null, a NullPointerException will be raised.
+     * @return next execution as seconds from 1970-01-01T00:00:00Z, strictly after reference;
+     * NO_EXECUTION if there is none.
+     */
+    public long nextExecution(long epochSecond, TimeZone zone){
+        Validate.notNull(zone, "TimeZone must not be null");
+        return nextExecution(epochSecond, ExecutionZone.of(zone));
+    }
+
+    /**
+     * Walks constant offset segments of the zone timeline, starting at the one holding given instant.
+     * Within a segment, wall clock matches map to instants with a single offset;
+     * gaps and overlaps at segment start are resolved as set by GapPolicy and OverlapPolicy.
+     */
+    long nextExecution(long epochSecond, ExecutionZone zone){
+        return nextExecution(epochSecond, zone, null);
+    }
+
+    /**
+     * @param reference - decomposed epochSecond + 1, shared between searches; null if not available
+     */
+    private long nextExecution(long epochSecond, ExecutionZone zone, Reference reference){
+        long candidate = epochSecond + 1;
+        //local second from which we know there is no match
+        long exhausted = Long.MAX_VALUE;
+        while(true){
+            long start;
+            long end;
+            int offset;
+            int offsetBefore;
+            if(reference != null && reference.epochSecond == candidate){
+                start = reference.segmentStart;
+                end = reference.segmentEnd;
+                offset = reference.offset;
+                offsetBefore = reference.offsetBefore;
+            }else{
+                start = zone.segmentStart(candidate);
+                end = zone.segmentEnd(candidate);
+                offset = zone.getOffset(candidate);
+                offsetBefore = zone.getOffset(start - 1);
+            }
+            long from = candidate + offset;
+            if(overlapPolicy == OverlapPolicy.ONCE && offsetBefore > offset){
+                //wall clock times repeated after the transition already fired before it
+                from = Math.max(from, start + offsetBefore);
+            }
+            long gapFrom = Long.MAX_VALUE;
+            if(gapPolicy == GapPolicy.SHIFT && offset > offsetBefore && candidate + offsetBefore < start + offset){
+                gapFrom = candidate + offsetBefore;
+            }
+            if(from >= exhausted && gapFrom >= exhausted){
+                return NO_EXECUTION;
+            }
+            long execution = NO_EXECUTION;
+            long match = NO_EXECUTION;
+            if(from < exhausted){
+                if(reference != null && reference.localSecond == from && period == 0){
+                    match = nextLocalMatch(reference.year, reference.month, reference.day,
+                            reference.hour, reference.minute, reference.second);
+                }else{
+                    match = nextLocalMatch(from);
+                }
+            }
+            if(match == NO_EXECUTION){
+                exhausted = Math.min(exhausted, from);
+            }else if(match < end + offset){
+                execution = match - offset;
+            }
+            if(gapFrom < exhausted){
+                //wall clock times skipped by the transition are moved forward by the length of the gap
+                long gapMatch = nextLocalMatch(gapFrom);
+                if(gapMatch == NO_EXECUTION){
+                    exhausted = Math.min(exhausted, gapFrom);
+                }else if(gapMatch < start + offset && (execution == NO_EXECUTION || gapMatch - offsetBefore < execution)){
+                    execution = gapMatch - offsetBefore;
+                }
+            }
+            if(execution != NO_EXECUTION){
+                return execution;
+            }
+            candidate = end;
+        }
+    }
+
+    /**
+     * Provide last execution for given instant, without creating date instances.
+     * @param epochSecond - reference instant, as seconds from 1970-01-01T00:00:00Z
+     * @param zone - time zone in which cron expression is evaluated. If null, a NullPointerException will be raised.
+     * @return last execution as seconds from 1970-01-01T00:00:00Z, strictly before reference;
+     * NO_EXECUTION if there is none.
+     */
+    public long lastExecution(long epochSecond, DateTimeZone zone){
+        Validate.notNull(zone, "DateTimeZone must not be null");
+        return lastExecution(epochSecond, ExecutionZone.of(zone));
+    }
+
+    /**
+     * Provide last execution for given instant, without creating date instances.
+     * Computed with java.util.TimeZone rules, so jodatime time zone data is not required.
+     * @param epochSecond - reference instant, as seconds from 1970-01-01T00:00:00Z
+     * @param zone - time zone in which cron expression is evaluated. If null, a NullPointerException will be raised.
+     * @return last execution as seconds from 1970-01-01T00:00:00Z, strictly before reference;
+     * NO_EXECUTION if there is none.
+     */
+    public long lastExecution(long epochSecond, TimeZone zone){
+        Validate.notNull(zone, "TimeZone must not be null");
+        return lastExecution(epochSecond, ExecutionZone.of(zone));
+    }
+
+    /**
+     * Walks constant offset segments of the zone timeline backwards, starting at the one holding given instant.
+     * @see #nextExecution(long, ExecutionZone)
+     */
+    long lastExecution(long epochSecond, ExecutionZone zone){
+        long candidate = epochSecond - 1;
+        //local second up to which we know there is no match
+        long exhausted = Long.MIN_VALUE;
+        while(true){
+            long start = zone.segmentStart(candidate);
+            int offset = zone.getOffset(candidate);
+            int offsetBefore = zone.getOffset(start - 1);
+            long to = candidate + offset;
+            long lowest = start + offset;
+            if(overlapPolicy == OverlapPolicy.ONCE && offsetBefore > offset){
+                //wall clock times repeated after the transition already fired before it
+                lowest = start + offsetBefore;
+            }
+            long gapTo = Long.MIN_VALUE;
+            if(gapPolicy == GapPolicy.SHIFT && offset > offsetBefore){
+                gapTo = Math.min(candidate + offsetBefore, start + offset - 1);
+                if(gapTo < start + offsetBefore){
+                    gapTo = Long.MIN_VALUE;
+                }
+            }
+            if(to <= exhausted && gapTo <= exhausted){
+                return NO_EXECUTION;
+            }
+            long execution = NO_EXECUTION;
+            if(to >= lowest && to > exhausted){
+                long match = previousLocalMatch(to);
+                if(match == NO_EXECUTION){
+                    exhausted = Math.max(exhausted, to);
+                }else if(match >= lowest){
+                    execution = match - offset;
+                }
+            }
+            if(gapTo > exhausted){
+                //wall clock times skipped by the transition are moved forward by the length of the gap
+                long gapMatch = previousLocalMatch(gapTo);
+                if(gapMatch == NO_EXECUTION){
+                    exhausted = Math.max(exhausted, gapTo);
+                }else if(gapMatch >= start + offsetBefore && gapMatch - offsetBefore > execution){
+                    execution = gapMatch - offsetBefore;
+                }
+            }
+            if(execution != NO_EXECUTION){
+                return execution;
+            }
+            candidate = start - 1;
+        }
+    }
+
+    /**
+     * Provides next execution of each given execution time, for a single reference instant.
+     * The reference is decomposed into time zone offsets and date fields once, and shared by all searches.
+     * @param executionTimes - execution times. If null, a NullPointerException will be raised.
+     * @param epochSecond - reference instant, as seconds from 1970-01-01T00:00:00Z
+     * @param zone - time zone in which cron expressions are evaluated. If null, a NullPointerException will be raised.
+     * @return next executions, at same positions as execution times; NO_EXECUTION where there is none.
+     */
+    public static long[] nextExecutions(List<ExecutionTime> executionTimes, long epochSecond, DateTimeZone zone){
+        Validate.notNull(zone, "DateTimeZone must not be null");
+        return nextExecutions(executionTimes, epochSecond, ExecutionZone.of(zone), null);
+    }
+
+    /**
+     * Provides next execution of each given execution time, for a single reference instant.
+     * Work is split in chunks, run on given executor service.
+     * @param executionTimes - execution times. If null, a NullPointerException will be raised.
+     * @param epochSecond - reference instant, as seconds from 1970-01-01T00:00:00Z
+     * @param zone - time zone in which cron expressions are evaluated. If null, a NullPointerException will be raised.
+     * @param executorService - runs chunks of work. If null, a NullPointerException will be raised.
+     * @return next executions, at same positions as execution times; NO_EXECUTION where there is none.
+     */
+    public static long[] nextExecutions(List<ExecutionTime> executionTimes, long epochSecond, DateTimeZone zone,
+                                        ExecutorService executorService){
+        Validate.notNull(zone, "DateTimeZone must not be null");
+        Validate.notNull(executorService, "ExecutorService must not be null");
+        return nextExecutions(executionTimes, epochSecond, ExecutionZone.of(zone), executorService);
+    }
+
+    /**
+     * Provides next execution of each given execution time, for a single reference instant,
+     * computed with java.util.TimeZone rules.
+     * @param executionTimes - execution times. If null, a NullPointerException will be raised.
+     * @param epochSecond - reference instant, as seconds from 1970-01-01T00:00:00Z
+     * @param zone - time zone in which cron expressions are evaluated. If null, a NullPointerException will be raised.
+     * @return next executions, at same positions as execution times; NO_EXECUTION where there is none.
+     */
+    public static long[] nextExecutions(List<ExecutionTime> executionTimes, long epochSecond, TimeZone zone){
+        Validate.notNull(zone, "TimeZone must not be null");
+        return nextExecutions(executionTimes, epochSecond, ExecutionZone.of(zone), null);
+    }
+
+    private static long[] nextExecutions(final List<ExecutionTime> executionTimes, final long epochSecond,
+                                         final ExecutionZone zone, ExecutorService executorService){
+        Validate.notNull(executionTimes, "Execution times must not be null");
+        final long[] executions = new long[executionTimes.size()];
+        final Reference reference = new Reference(epochSecond + 1, zone);
+        if(executorService == null){
+            nextExecutions(executionTimes, epochSecond, zone, reference, executions, 0, executions.length);
+            return executions;
+        }
+        int chunkSize = Math.max(MIN_BATCH_CHUNK_SIZE, executions.length / Runtime.getRuntime().availableProcessors() + 1);
+        List<Future<?>> chunks = Lists.newArrayList();
+        for(int from = 0; from < executions.length; from += chunkSize){
+            final int chunkFrom = from;
+            final int chunkTo = Math.min(executions.length, from + chunkSize);
+            chunks.add(executorService.submit(new Runnable() {
+                @Override
+                public void run() {
+                    nextExecutions(executionTimes, epochSecond, zone, reference, executions, chunkFrom, chunkTo);
+                }
+            }));
+        }
         try {
-            DateTime nextMatch = nextClosestMatch(date);
-            if(nextMatch.equals(date)){
-                nextMatch = nextClosestMatch(date.plusSeconds(1));
-            }
-            return nextMatch;
-        } catch (NoSuchValueException e) {
-            throw new IllegalArgumentException(e);
-        }
-    }
-
+            for(Future<?> chunk : chunks){
+                chunk.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for next executions", e);
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException){
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return executions;
+    }
+
+    private static void nextExecutions(List<ExecutionTime> executionTimes, long epochSecond, ExecutionZone zone,
+                                       Reference reference, long[] executions, int from, int to){
+        for(int j = from; j < to; j++){
+            executions[j] = executionTimes.get(j).nextExecution(epochSecond, zone, reference);
+        }
+    }
+
+    /**
+     * Provides next execution for each of given reference instants.
+     * A single cursor advances through the schedule: consecutive references
+     * before the same execution are answered without searching again,
+     * and later ones resume the search from the compiled month until a month boundary is crossed.
+     * @param epochSeconds - reference instants, as seconds from 1970-01-01T00:00:00Z, sorted in ascending order.
+     *                     If null, a NullPointerException will be raised.
+     * @param zone - time zone in which cron expression is evaluated. If null, a NullPointerException will be raised.
+     * @return next executions, at same positions as references; NO_EXECUTION where there is none.
+     */
+    public long[] nextExecutions(long[] epochSeconds, DateTimeZone zone){
+        Validate.notNull(zone, "DateTimeZone must not be null");
+        return nextExecutions(epochSeconds, ExecutionZone.of(zone));
+    }
+
     /**
-     * If date is not match, will return next closest match.
-     * If date is match, will return this date.
-     * @param date - reference DateTime instance - never null;
-     * @return DateTime instance, never null. Value obeys logic specified above.
-     * @throws NoSuchValueException
-     */
-    DateTime nextClosestMatch(DateTime date) throws NoSuchValueException {
-        List<Integer> year = yearsValueGenerator.generateCandidates(date.getYear(), date.getYear());
-        TimeNode days = null;
-        int lowestMonth = months.getValues().get(0);
-        int lowestHour = hours.getValues().get(0);
-        int lowestMinute = minutes.getValues().get(0);
-        int lowestSecond = seconds.getValues().get(0);
-
-        NearestValue nearestValue;
-        DateTime newDate;
-        if(year.isEmpty()){
-            int newYear = yearsValueGenerator.generateNextValue(date.getYear());
-            days = generateDays(cronDefinition, new DateTime(newYear, lowestMonth, 1, 0, 0));
-            return initDateTime(yearsValueGenerator.generateNextValue(date.getYear()), lowestMonth, days.getValues().get(0), lowestHour, lowestMinute, lowestSecond, date.getZone());
-        }
-        if(!months.getValues().contains(date.getMonthOfYear())) {
-            nearestValue = months.getNextValue(date.getMonthOfYear(), 0);
-            int nextMonths = nearestValue.getValue();
-            if(nearestValue.getShifts()>0){
-                newDate =
-                        new DateTime(date.getYear(), 1, 1, 0, 0, 0, date.getZone()).plusYears(nearestValue.getShifts());
-                return nextClosestMatch(newDate);
-            }
-            if (nearestValue.getValue() < date.getMonthOfYear()) {
-            	date = date.plusYears(1);
-            }
-            days = generateDays(cronDefinition, new DateTime(date.getYear(), nextMonths, 1, 0, 0));
-            return initDateTime(date.getYear(), nextMonths, days.getValues().get(0), lowestHour, lowestMinute, lowestSecond, date.getZone());
-        }
-        days = generateDays(cronDefinition, date);
-        if(!days.getValues().contains(date.getDayOfMonth())) {
-            nearestValue = days.getNextValue(date.getDayOfMonth(), 0);
-            if(nearestValue.getShifts()>0){
-                newDate = new DateTime(date.getYear(), date.getMonthOfYear(), 1, 0, 0, 0, date.getZone()).plusMonths(nearestValue.getShifts());
-                return nextClosestMatch(newDate);
-            }
-            if (nearestValue.getValue() < date.getDayOfMonth()) {
-            	date = date.plusMonths(1);
-            }
-            return initDateTime(date.getYear(), date.getMonthOfYear(), nearestValue.getValue(), lowestHour, lowestMinute, lowestSecond, date.getZone());
-        }
-        if(!hours.getValues().contains(date.getHourOfDay())) {
-            nearestValue = hours.getNextValue(date.getHourOfDay(), 0);
-            int nextHours = nearestValue.getValue();
-            if(nearestValue.getShifts()>0){
-                newDate =
-                        new DateTime(date.getYear(), date.getMonthOfYear(),
-                                date.getDayOfMonth(), 0, 0, 0, date.getZone()).plusDays(nearestValue.getShifts());
-                return nextClosestMatch(newDate);
-            }
-            if (nearestValue.getValue() < date.getHourOfDay()) {
-            	date = date.plusDays(1);
-            }
-            return initDateTime(date.getYear(), date.getMonthOfYear(), date.getDayOfMonth(), nextHours, lowestMinute, lowestSecond, date.getZone());
-        }
-        if(!minutes.getValues().contains(date.getMinuteOfHour())) {
-            nearestValue = minutes.getNextValue(date.getMinuteOfHour(), 0);
-            int nextMinutes = nearestValue.getValue();
-            if(nearestValue.getShifts()>0){
-                newDate =
-                        new DateTime(date.getYear(), date.getMonthOfYear(), date.getDayOfMonth(), date.getHourOfDay(),
-                                0, 0, date.getZone()).plusHours(nearestValue.getShifts());
-                return nextClosestMatch(newDate);
-            }
-            if (nearestValue.getValue() < date.getMinuteOfHour()) {
-            	date = date.plusHours(1);
-            }
-            return initDateTime(date.getYear(), date.getMonthOfYear(), date.getDayOfMonth(), date.getHourOfDay(), nextMinutes, lowestSecond, date.getZone());
-        }
-        if(!seconds.getValues().contains(date.getSecondOfMinute())) {
-            nearestValue = seconds.getNextValue(date.getSecondOfMinute(), 0);
-            int nextSeconds = nearestValue.getValue();
-            if(nearestValue.getShifts()>0){
-                newDate =
-                        new DateTime(date.getYear(), date.getMonthOfYear(),
-                                date.getDayOfMonth(), date.getHourOfDay(),
-                                date.getMinuteOfHour(),0, date.getZone()).plusMinutes(nearestValue.getShifts());
-                return nextClosestMatch(newDate);
-            }
-            if (nearestValue.getValue() < date.getSecondOfMinute()) {
-            	date = date.plusMinutes(1);
-            }
-            return initDateTime(date.getYear(), date.getMonthOfYear(), date.getDayOfMonth(), date.getHourOfDay(), date.getMinuteOfHour(), nextSeconds, date.getZone());
-        }
-        return date;
-    }
-
-    /**
-     * If date is not match, will return previous closest match.
-     * If date is match, will return this date.
-     * @param date - reference DateTime instance - never null;
-     * @return DateTime instance, never null. Value obeys logic specified above.
-     * @throws NoSuchValueException
-     */
-    DateTime previousClosestMatch(DateTime date) throws NoSuchValueException {
-        List<Integer> year = yearsValueGenerator.generateCandidates(date.getYear(), date.getYear());
-        TimeNode days = generateDays(cronDefinition, date);
-        int highestMonth = months.getValues().get(months.getValues().size()-1);
-        int highestDay = days.getValues().get(days.getValues().size()-1);
-        int highestHour = hours.getValues().get(hours.getValues().size()-1);
-        int highestMinute = minutes.getValues().get(minutes.getValues().size()-1);
-        int highestSecond = seconds.getValues().get(seconds.getValues().size()-1);
-
-        NearestValue nearestValue;
-        DateTime newDate;
-        if(year.isEmpty()){
-            int previousYear = yearsValueGenerator.generatePreviousValue(date.getYear());
-            if(highestDay>28){
-                int highestDayOfMonth = new DateTime(previousYear, highestMonth, 1,0,0).dayOfMonth().getMaximumValue();
-                if(highestDay>highestDayOfMonth){
-                    nearestValue = days.getPreviousValue(highestDay, 1);
-                    if(nearestValue.getShifts()>0){
-                        newDate = new DateTime(previousYear, highestMonth, 1, 23, 59, 59, date.getZone())
-                                .minusMonths(nearestValue.getShifts()).dayOfMonth().withMaximumValue();
-                        return previousClosestMatch(newDate);
+     * Provides next execution for each of given reference instants, computed with java.util.TimeZone rules.
+     * @param epochSeconds - reference instants, as seconds from 1970-01-01T00:00:00Z, sorted in ascending order.
+     *                     If null, a NullPointerException will be raised.
+     * @param zone - time zone in which cron expression is evaluated. If null, a NullPointerException will be raised.
+     * @return next executions, at same positions as references; NO_EXECUTION where there is none.
+     * @see #nextExecutions(long[], DateTimeZone)
+     */
+    public long[] nextExecutions(long[] epochSeconds, TimeZone zone){
+        Validate.notNull(zone, "TimeZone must not be null");
+        return nextExecutions(epochSeconds, ExecutionZone.of(zone));
+    }
+
+    /**
+     * Provides last execution for each of given reference instants.
+     * A single cursor advances through the schedule: consecutive references
+     * after the same execution are answered without searching again,
+     * and later ones resume the search from the compiled month until a month boundary is crossed.
+     * @param epochSeconds - reference instants, as seconds from 1970-01-01T00:00:00Z, sorted in ascending order.
+     *                     If null, a NullPointerException will be raised.
+     * @param zone - time zone in which cron expression is evaluated. If null, a NullPointerException will be raised.
+     * @return last executions, at same positions as references; NO_EXECUTION where there is none.
+     */
+    public long[] lastExecutions(long[] epochSeconds, DateTimeZone zone){
+        Validate.notNull(zone, "DateTimeZone must not be null");
+        return lastExecutions(epochSeconds, ExecutionZone.of(zone));
+    }
+
+    /**
+     * Provides last execution for each of given reference instants, computed with java.util.TimeZone rules.
+     * @param epochSeconds - reference instants, as seconds from 1970-01-01T00:00:00Z, sorted in ascending order.
+     *                     If null, a NullPointerException will be raised.
+     * @param zone - time zone in which cron expression is evaluated. If null, a NullPointerException will be raised.
+     * @return last executions, at same positions as references; NO_EXECUTION where there is none.
+     * @see #lastExecutions(long[], DateTimeZone)
+     */
+    public long[] lastExecutions(long[] epochSeconds, TimeZone zone){
+        Validate.notNull(zone, "TimeZone must not be null");
+        return lastExecutions(epochSeconds, ExecutionZone.of(zone));
+    }
+
+    long[] nextExecutions(long[] epochSeconds, ExecutionZone zone){
+        Validate.notNull(epochSeconds, "Reference instants must not be null");
+        long[] executions = new long[epochSeconds.length];
+        Cursor cursor = new Cursor(zone);
+        //next execution of the previous reference: holds for every reference before it
+        long execution = NO_EXECUTION;
+        for(int j = 0; j < epochSeconds.length; j++){
+            long epochSecond = epochSeconds[j];
+            if(j == 0){
+                execution = cursor.nextExecution(epochSecond);
+            }else{
+                Validate.isTrue(epochSecond >= epochSeconds[j - 1], "Reference instants must be sorted in ascending order");
+                if(execution != NO_EXECUTION && epochSecond >= execution){
+                    execution = cursor.nextExecution(epochSecond);
+                }
+            }
+            executions[j] = execution;
+        }
+        return executions;
+    }
+
+    long[] lastExecutions(long[] epochSeconds, ExecutionZone zone){
+        Validate.notNull(epochSeconds, "Reference instants must not be null");
+        long[] executions = new long[epochSeconds.length];
+        Cursor cursor = new Cursor(zone);
+        //last execution of the previous reference, and the execution following it:
+        //execution holds for every reference up to following
+        long execution = NO_EXECUTION;
+        long following = NO_EXECUTION;
+        for(int j = 0; j < epochSeconds.length; j++){
+            long epochSecond = epochSeconds[j];
+            if(j == 0){
+                execution = cursor.lastExecution(epochSecond);
+                following = cursor.nextExecution(execution == NO_EXECUTION ? epochSecond - 1 : execution);
+            }else{
+                Validate.isTrue(epochSecond >= epochSeconds[j - 1], "Reference instants must be sorted in ascending order");
+                if(following != NO_EXECUTION && epochSecond > following){
+                    long next = cursor.nextExecution(following);
+                    if(next == NO_EXECUTION || epochSecond <= next){
+                        //reference moved a single execution forward
+                        execution = following;
+                        following = next;
                     }else{
-                        highestDay = nearestValue.getValue();
+                        execution = cursor.lastExecution(epochSecond);
+                        following = cursor.nextExecution(execution);
+                    }
+                }
+            }
+            executions[j] = execution;
+        }
+        return executions;
+    }
+
+    /**
+     * Lazily provides executions after given date.
+     * The iterator resumes each search from the previous execution,
+     * so walking many executions is cheaper than repeated nextExecution calls.
+     * Provided executions fall on whole seconds, without milliseconds of given date.
+     * @param from - jodatime DateTime instance. If null, a NullPointerException will be raised.
+     * @return Iterator over executions strictly after given date, in its time zone. Never ends while executions exist.
+     */
+    public Iterator<DateTime> executions(DateTime from){
+        Validate.notNull(from, "From date must not be null");
+        return new ExecutionIterator(this, from.getZone(), epochSecondOf(from.getMillis()), Long.MAX_VALUE, false);
+    }
+
+    /**
+     * Lazily provides executions between given dates.
+     * @param from - jodatime DateTime instance. If null, a NullPointerException will be raised.
+     * @param to - jodatime DateTime instance. If null, a NullPointerException will be raised.
+     * @return Iterator over executions strictly after from and not after to, in time zone of from.
+     */
+    public Iterator<DateTime> executionsBetween(DateTime from, DateTime to){
+        Validate.notNull(from, "From date must not be null");
+        Validate.notNull(to, "To date must not be null");
+        Validate.isTrue(!to.isBefore(from), "To date must not be before from date");
+        return new ExecutionIterator(this, from.getZone(), epochSecondOf(from.getMillis()), epochSecondOf(to.getMillis()), false);
+    }
+
+    /**
+     * Lazily provides executions before given date, from latest to earliest.
+     * As executions(from), the iterator resumes each search from the previous execution.
+     * @param date - jodatime DateTime instance. If null, a NullPointerException will be raised.
+     * @return Iterator over executions strictly before given date, in its time zone. Never ends while executions exist.
+     */
+    public Iterator<DateTime> executionsBefore(DateTime date){
+        Validate.notNull(date, "Date must not be null");
+        return new ExecutionIterator(this, date.getZone(), epochSecondAfter(date.getMillis()), Long.MIN_VALUE, true);
+    }
+
+    /**
+     * Counts executions between given dates, without enumerating them.
+     * Runs of whole days with a constant offset contribute the product of hour, minute and second cardinalities;
+     * only the first and last day of each run are evaluated partially.
+     * Days holding an offset transition are enumerated, so gap and overlap policies apply.
+     * Executions are counted in the from date time zone.
+     * @param from - jodatime DateTime instance. If null, a NullPointerException will be raised.
+     * @param to - jodatime DateTime instance. If null, a NullPointerException will be raised.
+     * @return amount of executions strictly after from and not after to,
+     * same as would be provided by executionsBetween(from, to).
+     */
+    public long countExecutions(DateTime from, DateTime to){
+        Validate.notNull(from, "From date must not be null");
+        Validate.notNull(to, "To date must not be null");
+        Validate.isTrue(!to.isBefore(from), "To date must not be before from date");
+        return countExecutions(epochSecondOf(from.getMillis()) + 1, epochSecondOf(to.getMillis()) + 1, ExecutionZone.of(from.getZone()));
+    }
+
+    /**
+     * @param fromEpochSecond - included start of the window, as seconds from 1970-01-01T00:00:00Z
+     * @param toEpochSecond - excluded end of the window, as seconds from 1970-01-01T00:00:00Z
+     * @param zone - time zone in which cron expression is evaluated
+     * @return amount of executions within given window
+     */
+    long countExecutions(long fromEpochSecond, long toEpochSecond, ExecutionZone zone){
+        if(toEpochSecond <= fromEpochSecond){
+            return 0;
+        }
+        long fromDay = CalendarArithmetic.epochDayOf(zone.toLocalSecond(fromEpochSecond)) - 1;
+        long toDay = CalendarArithmetic.epochDayOf(zone.toLocalSecond(toEpochSecond - 1)) + 1;
+        long count = 0;
+        long epochDay = fromDay;
+        while(epochDay <= toDay){
+            long dayStart = epochDay * CalendarArithmetic.SECONDS_PER_DAY;
+            long spanStart = zone.toEpochSecond(dayStart);
+            long spanEnd = zone.toEpochSecond(dayStart + CalendarArithmetic.SECONDS_PER_DAY);
+            if(spanEnd <= fromEpochSecond || spanStart >= toEpochSecond){
+                epochDay++;
+                continue;
+            }
+            int offset = zone.getOffset(spanStart);
+            long segmentEnd = zone.segmentEnd(spanStart);
+            boolean constantOffset = spanEnd - spanStart == CalendarArithmetic.SECONDS_PER_DAY
+                    && segmentEnd >= spanEnd && dayStart - offset == spanStart;
+            if(!constantOffset){
+                if(isMatchingDay(epochDay)){
+                    long execution = nextExecution(Math.max(spanStart, fromEpochSecond) - 1, zone);
+                    long end = Math.min(spanEnd, toEpochSecond);
+                    while(execution != NO_EXECUTION && execution < end){
+                        count++;
+                        execution = nextExecution(execution, zone);
                     }
                 }
+                epochDay++;
+                continue;
             }
-            return initDateTime(previousYear, highestMonth, highestDay, highestHour, highestMinute, highestSecond, date.getZone());
+            //whole days up to the next transition share this offset
+            long runEndDay = CalendarArithmetic.floorDiv(segmentEnd + offset, CalendarArithmetic.SECONDS_PER_DAY);
+            long runEnd = runEndDay * CalendarArithmetic.SECONDS_PER_DAY - offset;
+            count += countLocalMatches(Math.max(spanStart, fromEpochSecond) - 1 + offset, Math.min(runEnd, toEpochSecond) - 1 + offset);
+            epochDay = runEndDay;
         }
-        if(!months.getValues().contains(date.getMonthOfYear())){
-            nearestValue = months.getPreviousValue(date.getMonthOfYear(), 0);
-            int previousMonths = nearestValue.getValue();
-            if(nearestValue.getShifts()>0){
-                newDate =
-                        new DateTime(date.getYear(), 12, 31, 23, 59, 59, date.getZone()).minusYears(nearestValue.getShifts());
-                return previousClosestMatch(newDate);
+        return count;
+    }
+
+    /**
+     * @param fromLocalSecond - excluded lower bound, as wall clock seconds from 1970-01-01T00:00:00
+     * @param toLocalSecond - included upper bound, as wall clock seconds from 1970-01-01T00:00:00
+     * @return amount of local seconds matching the cron expression in given range
+     */
+    long countLocalMatches(long fromLocalSecond, long toLocalSecond){
+        if(toLocalSecond <= fromLocalSecond){
+            return 0;
+        }
+        if(period != 0){
+            long from = Math.max(fromLocalSecond, periodStart - 1);
+            long to = Math.min(toLocalSecond, periodEnd);
+            if(to <= from){
+                return 0;
             }
-            return initDateTime(date.getYear(), previousMonths, highestDay, highestHour, highestMinute, highestSecond, date.getZone());
+            return CalendarArithmetic.floorDiv(to - periodPhase, period) - CalendarArithmetic.floorDiv(from - periodPhase, period);
         }
-        if(!days.getValues().contains(date.getDayOfMonth())){
-            nearestValue = days.getPreviousValue(date.getDayOfMonth(), 0);
-            if(nearestValue.getShifts()>0){
-                newDate = new DateTime(date.getYear(), date.getMonthOfYear(), 1, 23, 59, 59, date.getZone())
-                        .minusMonths(nearestValue.getShifts()).dayOfMonth().withMaximumValue();
-                return previousClosestMatch(newDate);
+        long fromDay = CalendarArithmetic.epochDayOf(fromLocalSecond);
+        long toDay = CalendarArithmetic.epochDayOf(toLocalSecond);
+        int fromSecondOfDay = CalendarArithmetic.secondOfDay(fromLocalSecond);
+        int toSecondOfDay = CalendarArithmetic.secondOfDay(toLocalSecond);
+        if(fromDay == toDay){
+            if(!isMatchingDay(fromDay)){
+                return 0;
             }
-            return initDateTime(date.getYear(), date.getMonthOfYear(), nearestValue.getValue(), highestHour, highestMinute, highestSecond, date.getZone());
+            return countMatchesUpTo(toSecondOfDay) - countMatchesUpTo(fromSecondOfDay);
+        }
+        long count = 0;
+        if(isMatchingDay(fromDay)){
+            count += countMatchesUpTo(CalendarArithmetic.SECONDS_PER_DAY - 1) - countMatchesUpTo(fromSecondOfDay);
+        }
+        if(isMatchingDay(toDay)){
+            count += countMatchesUpTo(toSecondOfDay);
         }
-        if(!hours.getValues().contains(date.getHourOfDay())){
-            nearestValue = hours.getPreviousValue(date.getHourOfDay(), 0);
-            if(nearestValue.getShifts()>0){
-                newDate =
-                        new DateTime(date.getYear(), date.getMonthOfYear(),
-                                date.getDayOfMonth(), 23, 59, 59, date.getZone()).minusDays(nearestValue.getShifts());
-                return previousClosestMatch(newDate);
+        if(toDay - fromDay > 1){
+            count += countMatchingDays(fromDay + 1, toDay - 1) * countMatchesUpTo(CalendarArithmetic.SECONDS_PER_DAY - 1);
+        }
+        return count;
+    }
+
+    /**
+     * Adds executions within given window to buckets of fixed length, without enumerating them:
+     * each matching day adds its hour and minute combinations, a whole minute at once when it falls in a single bucket.
+     * Days holding an offset transition are enumerated, so gap and overlap policies apply.
+     * @param buckets - execution counts; bucket j covers [fromEpochSecond + j * bucketSeconds, fromEpochSecond + (j + 1) * bucketSeconds)
+     * @param fromEpochSecond - included start of the window, as seconds from 1970-01-01T00:00:00Z
+     * @param toEpochSecond - excluded end of the window, as seconds from 1970-01-01T00:00:00Z
+     * @param bucketSeconds - length of each bucket, in seconds
+     * @param zone - time zone in which cron expression is evaluated
+     */
+    void addExecutions(long[] buckets, long fromEpochSecond, long toEpochSecond, int bucketSeconds, ExecutionZone zone){
+        long fromDay = CalendarArithmetic.epochDayOf(zone.toLocalSecond(fromEpochSecond)) - 1;
+        long toDay = CalendarArithmetic.epochDayOf(zone.toLocalSecond(toEpochSecond - 1)) + 1;
+        boolean secondsInRange = seconds.getLowestValue() >= 0 && seconds.getHighestValue() <= 59;
+        int secondsCount = seconds.size();
+        for(long epochDay = fromDay; epochDay <= toDay; epochDay++){
+            long dayStart = epochDay * CalendarArithmetic.SECONDS_PER_DAY;
+            long spanStart = zone.toEpochSecond(dayStart);
+            long spanEnd = zone.toEpochSecond(dayStart + CalendarArithmetic.SECONDS_PER_DAY);
+            if(spanEnd <= fromEpochSecond || spanStart >= toEpochSecond || !isMatchingDay(epochDay)){
+                continue;
+            }
+            boolean constantOffset = spanEnd - spanStart == CalendarArithmetic.SECONDS_PER_DAY
+                    && zone.segmentEnd(spanStart) >= spanEnd && dayStart - zone.getOffset(spanStart) == spanStart;
+            if(!constantOffset){
+                long execution = nextExecution(Math.max(spanStart, fromEpochSecond) - 1, zone);
+                long end = Math.min(spanEnd, toEpochSecond);
+                while(execution != NO_EXECUTION && execution < end){
+                    buckets[(int) ((execution - fromEpochSecond) / bucketSeconds)]++;
+                    execution = nextExecution(execution, zone);
+                }
+                continue;
+            }
+            for(int hour : hours.getValues()){
+                if(hour < 0 || hour > 23){
+                    continue;
+                }
+                for(int minute : minutes.getValues()){
+                    if(minute < 0 || minute > 59){
+                        continue;
+                    }
+                    long minuteStart = spanStart + hour * CalendarArithmetic.SECONDS_PER_HOUR + minute * CalendarArithmetic.SECONDS_PER_MINUTE;
+                    long first = minuteStart + seconds.getLowestValue();
+                    long last = minuteStart + seconds.getHighestValue();
+                    if(secondsInRange && first >= fromEpochSecond && last < toEpochSecond
+                            && (first - fromEpochSecond) / bucketSeconds == (last - fromEpochSecond) / bucketSeconds){
+                        buckets[(int) ((first - fromEpochSecond) / bucketSeconds)] += secondsCount;
+                        continue;
+                    }
+                    for(int second : seconds.getValues()){
+                        long execution = minuteStart + second;
+                        if(second >= 0 && second <= 59 && execution >= fromEpochSecond && execution < toEpochSecond){
+                            buckets[(int) ((execution - fromEpochSecond) / bucketSeconds)]++;
+                        }
+                    }
+                }
             }
-            return initDateTime(date.getYear(), date.getMonthOfYear(), date.getDayOfMonth(), nearestValue.getValue(), highestMinute, highestSecond, date.getZone());
         }
-        if(!minutes.getValues().contains(date.getMinuteOfHour())){
-            nearestValue = minutes.getPreviousValue(date.getMinuteOfHour(), 0);
-            if(nearestValue.getShifts()>0){
-                newDate =
-                        new DateTime(date.getYear(), date.getMonthOfYear(),
-                                date.getDayOfMonth(), date.getHourOfDay(), 59, 59, date.getZone()).minusHours(nearestValue.getShifts());
-                return previousClosestMatch(newDate);
+    }
+
+    /**
+     * @param secondOfDay - included upper bound, 0-86399
+     * @return amount of hour, minute and second combinations matching, from start of day up to given second
+     */
+    private long countMatchesUpTo(int secondOfDay){
+        int hour = secondOfDay / CalendarArithmetic.SECONDS_PER_HOUR;
+        int minute = secondOfDay / CalendarArithmetic.SECONDS_PER_MINUTE % 60;
+        int second = secondOfDay % 60;
+        long minutesPerHour = minutes.countLowerThan(60);
+        long secondsPerMinute = seconds.countLowerThan(60);
+        long count = hours.countLowerThan(hour) * minutesPerHour * secondsPerMinute;
+        if(hours.contains(hour)){
+            count += minutes.countLowerThan(minute) * secondsPerMinute;
+            if(minutes.contains(minute)){
+                count += seconds.countLowerThan(second + 1);
             }
-            return initDateTime(date.getYear(), date.getMonthOfYear(), date.getDayOfMonth(), date.getHourOfDay(), nearestValue.getValue(), highestSecond, date.getZone());
         }
-        if(!seconds.getValues().contains(date.getSecondOfMinute())){
-            nearestValue = seconds.getPreviousValue(date.getSecondOfMinute(), 0);
-            int previousSeconds = nearestValue.getValue();
-            if(nearestValue.getShifts()>0){
-                newDate =
-                        new DateTime(date.getYear(), date.getMonthOfYear(),
-                                date.getDayOfMonth(), date.getHourOfDay(),
-                                date.getMinuteOfHour(), 59, date.getZone()).minusMinutes(nearestValue.getShifts());
-                return previousClosestMatch(newDate);
+        return count;
+    }
+
+    private boolean isMatchingDay(long epochDay){
+        int date = CalendarArithmetic.packedDate(epochDay);
+        int year = CalendarArithmetic.year(date);
+        int month = CalendarArithmetic.month(date);
+        if(!years.contains(year) || !months.contains(month)){
+            return false;
+        }
+        TimeNode days = resolveDays(year, month);
+        return days != null && days.contains(CalendarArithmetic.day(date));
+    }
+
+    /**
+     * Counts matching days month by month: each month is resolved once from cached day candidates.
+     * @param fromDay - included first epoch day
+     * @param toDay - included last epoch day
+     * @return amount of days matching year, month and day constraints
+     */
+    private long countMatchingDays(long fromDay, long toDay){
+        long count = 0;
+        long epochDay = fromDay;
+        while(epochDay <= toDay){
+            int date = CalendarArithmetic.packedDate(epochDay);
+            int year = CalendarArithmetic.year(date);
+            int month = CalendarArithmetic.month(date);
+            int day = CalendarArithmetic.day(date);
+            if(!years.contains(year)){
+                int nextYear = years.ceiling(year);
+                if(nextYear == YearBitmap.NO_VALUE){
+                    break;
+                }
+                epochDay = CalendarArithmetic.epochDay(nextYear, 1, 1);
+                continue;
             }
-            return initDateTime(date.getYear(), date.getMonthOfYear(), date.getDayOfMonth(), date.getHourOfDay(), date.getMinuteOfHour(), previousSeconds, date.getZone());
+            long nextMonth = month == 12 ? CalendarArithmetic.epochDay(year + 1, 1, 1) : CalendarArithmetic.epochDay(year, month + 1, 1);
+            if(months.contains(month)){
+                TimeNode days = resolveDays(year, month);
+                if(days != null){
+                    int lastDay = (int) (Math.min(toDay, nextMonth - 1) - epochDay) + day;
+                    count += days.countLowerThan(lastDay + 1) - days.countLowerThan(day);
+                }
+            }
+            epochDay = nextMonth;
         }
-        return date;
+        return count;
     }
 
-    TimeNode generateDays(CronDefinition cronDefinition, DateTime date){
-        boolean questionMarkSupported =
-                cronDefinition.getFieldDefinition(DAY_OF_WEEK).getConstraints().getSpecialChars().contains(QUESTION_MARK);
-        if(questionMarkSupported){
-            return new TimeNode(
-                    generateDayCandidatesQuestionMarkSupported(
-                            date.getYear(), date.getMonthOfYear(),
-                            ((DayOfWeekFieldDefinition)
-                                    cronDefinition.getFieldDefinition(DAY_OF_WEEK)
-                            ).getMondayDoWValue()
-                    )
-            );
-        }else{
-            return new TimeNode(
-                    generateDayCandidatesQuestionMarkNotSupported(
-                            date.getYear(), date.getMonthOfYear(),
-                            ((DayOfWeekFieldDefinition)
-                                    cronDefinition.getFieldDefinition(DAY_OF_WEEK)
-                            ).getMondayDoWValue()
-                    )
-            );
+    /**
+     * @param millis - instant, as milliseconds from 1970-01-01T00:00:00Z
+     * @return latest whole second not after given instant
+     */
+    private static long epochSecondOf(long millis){
+        return CalendarArithmetic.floorDiv(millis, 1000);
+    }
+
+    /**
+     * @param millis - instant, as milliseconds from 1970-01-01T00:00:00Z
+     * @return earliest whole second not before given instant
+     */
+    private static long epochSecondAfter(long millis){
+        return -CalendarArithmetic.floorDiv(-millis, 1000);
+    }
+
+    /**
+     * Finds first local second matching the cron expression, considering given one.
+     * Fields are advanced in place from the largest to the smallest unit,
+     * so no date instances are created.
+     * @param localSecond - reference wall clock time, as seconds from 1970-01-01T00:00:00
+     * @return matching local second, equal or greater than reference; NO_EXECUTION if there is none.
+     */
+    long nextLocalMatch(long localSecond){
+        if(period != 0){
+            localSecond = Math.max(localSecond, periodStart);
+            long match = localSecond + CalendarArithmetic.floorMod(periodPhase - localSecond, period);
+            return match <= periodEnd ? match : NO_EXECUTION;
+        }
+        long epochDay = CalendarArithmetic.epochDayOf(localSecond);
+        int secondOfDay = (int) (localSecond - epochDay * CalendarArithmetic.SECONDS_PER_DAY);
+        int date = CalendarArithmetic.packedDate(epochDay);
+        return nextLocalMatch(CalendarArithmetic.year(date), CalendarArithmetic.month(date), CalendarArithmetic.day(date),
+                secondOfDay / CalendarArithmetic.SECONDS_PER_HOUR, secondOfDay / CalendarArithmetic.SECONDS_PER_MINUTE % 60, secondOfDay % 60);
+    }
+
+    private long nextLocalMatch(int year, int month, int day, int hour, int minute, int second){
+        int startYear = year;
+        while(true){
+            if(!years.contains(year)){
+                year = years.ceiling(year);
+                if(year == YearBitmap.NO_VALUE){
+                    return NO_EXECUTION;
+                }
+                month = 1; day = 1; hour = 0; minute = 0; second = 0;
+                if(year - startYear > searchHorizonYears){
+                    return NO_EXECUTION;
+                }
+            }
+            int nextMonth = months.ceiling(month);
+            if(nextMonth == TimeNode.NO_VALUE || nextMonth > 12){
+                year++; month = 1; day = 1; hour = 0; minute = 0; second = 0;
+                if(year - startYear > searchHorizonYears){
+                    return NO_EXECUTION;
+                }
+                continue;
+            }
+            if(nextMonth != month){
+                month = nextMonth; day = 1; hour = 0; minute = 0; second = 0;
+            }
+            TimeNode days = resolveDays(year, month);
+            int nextDay = days == null ? TimeNode.NO_VALUE : days.ceiling(day);
+            if(nextDay == TimeNode.NO_VALUE){
+                month++; day = 1; hour = 0; minute = 0; second = 0;
+                continue;
+            }
+            if(nextDay != day){
+                day = nextDay; hour = 0; minute = 0; second = 0;
+            }
+            int nextHour = hours.ceiling(hour);
+            if(nextHour == TimeNode.NO_VALUE){
+                day++; hour = 0; minute = 0; second = 0;
+                continue;
+            }
+            if(nextHour != hour){
+                hour = nextHour; minute = 0; second = 0;
+            }
+            int nextMinute = minutes.ceiling(minute);
+            if(nextMinute == TimeNode.NO_VALUE){
+                hour++; minute = 0; second = 0;
+                continue;
+            }
+            if(nextMinute != minute){
+                minute = nextMinute; second = 0;
+            }
+            int nextSecond = seconds.ceiling(second);
+            if(nextSecond == TimeNode.NO_VALUE){
+                minute++; second = 0;
+                continue;
+            }
+            return CalendarArithmetic.localSecond(year, month, day, hour, minute, nextSecond);
+        }
+    }
+
+    /**
+     * Finds last local second matching the cron expression, considering given one.
+     * Fields are moved back in place from the largest to the smallest unit,
+     * so no date instances are created.
+     * @param localSecond - reference wall clock time, as seconds from 1970-01-01T00:00:00
+     * @return matching local second, equal or lower than reference; NO_EXECUTION if there is none.
+     */
+    long previousLocalMatch(long localSecond){
+        if(period != 0){
+            localSecond = Math.min(localSecond, periodEnd);
+            long match = localSecond - CalendarArithmetic.floorMod(localSecond - periodPhase, period);
+            return match >= periodStart ? match : NO_EXECUTION;
+        }
+        long epochDay = CalendarArithmetic.epochDayOf(localSecond);
+        int secondOfDay = (int) (localSecond - epochDay * CalendarArithmetic.SECONDS_PER_DAY);
+        int date = CalendarArithmetic.packedDate(epochDay);
+        return previousLocalMatch(CalendarArithmetic.year(date), CalendarArithmetic.month(date), CalendarArithmetic.day(date),
+                secondOfDay / CalendarArithmetic.SECONDS_PER_HOUR, secondOfDay / CalendarArithmetic.SECONDS_PER_MINUTE % 60, secondOfDay % 60);
+    }
+
+    private long previousLocalMatch(int year, int month, int day, int hour, int minute, int second){
+        int startYear = year;
+        while(true){
+            if(!years.contains(year)){
+                year = years.floor(year);
+                if(year == YearBitmap.NO_VALUE){
+                    return NO_EXECUTION;
+                }
+                month = 12; day = 31; hour = 23; minute = 59; second = 59;
+                if(startYear - year > searchHorizonYears){
+                    return NO_EXECUTION;
+                }
+            }
+            int previousMonth = months.floor(month);
+            if(previousMonth == TimeNode.NO_VALUE || previousMonth < 1){
+                year--; month = 12; day = 31; hour = 23; minute = 59; second = 59;
+                if(startYear - year > searchHorizonYears){
+                    return NO_EXECUTION;
+                }
+                continue;
+            }
+            if(previousMonth != month){
+                month = previousMonth; day = 31; hour = 23; minute = 59; second = 59;
+            }
+            TimeNode days = resolveDays(year, month);
+            int previousDay = days == null ? TimeNode.NO_VALUE : days.floor(day);
+            if(previousDay == TimeNode.NO_VALUE){
+                month--; day = 31; hour = 23; minute = 59; second = 59;
+                continue;
+            }
+            if(previousDay != day){
+                day = previousDay; hour = 23; minute = 59; second = 59;
+            }
+            int previousHour = hours.floor(hour);
+            if(previousHour == TimeNode.NO_VALUE){
+                day--; hour = 23; minute = 59; second = 59;
+                continue;
+            }
+            if(previousHour != hour){
+                hour = previousHour; minute = 59; second = 59;
+            }
+            int previousMinute = minutes.floor(minute);
+            if(previousMinute == TimeNode.NO_VALUE){
+                hour--; minute = 59; second = 59;
+                continue;
+            }
+            if(previousMinute != minute){
+                minute = previousMinute; second = 59;
+            }
+            int previousSecond = seconds.floor(second);
+            if(previousSecond == TimeNode.NO_VALUE){
+                minute--; second = 59;
+                continue;
+            }
+            return CalendarArithmetic.localSecond(year, month, day, hour, minute, previousSecond);
         }
     }
 
@@ -348,20 +1167,54 @@ public class ExecutionTime {
 
     /**
      * Provide nearest date for last execution.
+     * Executions fall on whole seconds: milliseconds of given date are not carried over to the result,
+     * as earlier versions did.
      * @param date - jodatime DateTime instance. If null, a NullPointerException will be raised.
      * @return DateTime instance, never null. Last execution time.
      */
     public DateTime lastExecution(DateTime date){
         Validate.notNull(date);
-        try {
-            DateTime previousMatch = previousClosestMatch(date);
-            if(previousMatch.equals(date)){
-                previousMatch = previousClosestMatch(date.minusSeconds(1));
-            }
-            return previousMatch;
-        } catch (NoSuchValueException e) {
-            throw new IllegalArgumentException(e);
+        long execution = lastExecution(epochSecondAfter(date.getMillis()), date.getZone());
+        if(execution == NO_EXECUTION){
+            throw new IllegalArgumentException(
+                    String.format("No execution found before %s within %s years", date, searchHorizonYears)
+            );
         }
+        return new DateTime(execution * 1000L, date.getZone());
+    }
+
+    /**
+     * Provide nearest date for next execution, computed with java.util.TimeZone rules.
+     * @param date - reference date. If null, a NullPointerException will be raised.
+     * @param zone - time zone in which cron expression is evaluated. If null, a NullPointerException will be raised.
+     * @return Date instance, never null. Next execution time.
+     */
+    public Date nextExecution(Date date, TimeZone zone){
+        Validate.notNull(date);
+        long execution = nextExecution(epochSecondOf(date.getTime()), zone);
+        if(execution == NO_EXECUTION){
+            throw new IllegalArgumentException(
+                    String.format("No execution found after %s within %s years", date, searchHorizonYears)
+            );
+        }
+        return new Date(execution * 1000L);
+    }
+
+    /**
+     * Provide nearest date for last execution, computed with java.util.TimeZone rules.
+     * @param date - reference date. If null, a NullPointerException will be raised.
+     * @param zone - time zone in which cron expression is evaluated. If null, a NullPointerException will be raised.
+     * @return Date instance, never null. Last execution time.
+     */
+    public Date lastExecution(Date date, TimeZone zone){
+        Validate.notNull(date);
+        long execution = lastExecution(epochSecondAfter(date.getTime()), zone);
+        if(execution == NO_EXECUTION){
+            throw new IllegalArgumentException(
+                    String.format("No execution found before %s within %s years", date, searchHorizonYears)
+            );
+        }
+        return new Date(execution * 1000L);
     }
 
     /**
@@ -375,32 +1228,85 @@ public class ExecutionTime {
 
     /**
      * Provide feedback if a given date matches the cron expression.
+     * Executions fall on whole seconds, so a date with milliseconds never matches.
+     * This is a behaviour change: earlier versions ignored milliseconds and matched such dates.
      * @param date - jodatime DateTime instance. If null, a NullPointerException will be raised.
      * @return true if date matches cron expression requirements, false otherwise.
      */
     public boolean isMatch(DateTime date){
-        return nextExecution(lastExecution(date)).equals(date);
+        Validate.notNull(date);
+        return date.getMillisOfSecond() == 0 && isMatch(date.getMillis() / 1000, ExecutionZone.of(date.getZone()));
+    }
+
+    /**
+     * Provide feedback if a given instant matches the cron expression.
+     * Each field is checked against its candidates: no search is performed.
+     * @param epochSecond - instant, as seconds from 1970-01-01T00:00:00Z
+     * @param zone - time zone in which cron expression is evaluated. If null, a NullPointerException will be raised.
+     * @return true if instant matches cron expression requirements, false otherwise.
+     */
+    public boolean isMatch(long epochSecond, DateTimeZone zone){
+        Validate.notNull(zone, "DateTimeZone must not be null");
+        return isMatch(epochSecond, ExecutionZone.of(zone));
+    }
+
+    /**
+     * Provide feedback if a given instant matches the cron expression.
+     * Computed with java.util.TimeZone rules, so jodatime time zone data is not required.
+     * @param epochSecond - instant, as seconds from 1970-01-01T00:00:00Z
+     * @param zone - time zone in which cron expression is evaluated. If null, a NullPointerException will be raised.
+     * @return true if instant matches cron expression requirements, false otherwise.
+     */
+    public boolean isMatch(long epochSecond, TimeZone zone){
+        Validate.notNull(zone, "TimeZone must not be null");
+        return isMatch(epochSecond, ExecutionZone.of(zone));
+    }
+
+    private boolean isMatch(long epochSecond, ExecutionZone zone){
+        long start = zone.segmentStart(epochSecond);
+        int offset = zone.getOffset(epochSecond);
+        int offsetBefore = zone.getOffset(start - 1);
+        long localSecond = epochSecond + offset;
+        if(isLocalMatch(localSecond)){
+            //with OverlapPolicy.ONCE, repeated wall clock times only fire before the transition
+            return overlapPolicy == OverlapPolicy.TWICE || offsetBefore <= offset || localSecond >= start + offsetBefore;
+        }
+        //with GapPolicy.SHIFT, skipped wall clock times fire right after the transition
+        return gapPolicy == GapPolicy.SHIFT && offset > offsetBefore
+                && epochSecond < start + offset - offsetBefore && isLocalMatch(epochSecond + offsetBefore);
+    }
+
+    private boolean isLocalMatch(long localSecond){
+        if(period != 0){
+            return localSecond >= periodStart && localSecond <= periodEnd
+                    && CalendarArithmetic.floorMod(localSecond - periodPhase, period) == 0;
+        }
+        int secondOfDay = CalendarArithmetic.secondOfDay(localSecond);
+        return seconds.contains(secondOfDay % 60)
+                && minutes.contains(secondOfDay / CalendarArithmetic.SECONDS_PER_MINUTE % 60)
+                && hours.contains(secondOfDay / CalendarArithmetic.SECONDS_PER_HOUR)
+                && isMatchingDay(CalendarArithmetic.epochDayOf(localSecond));
     }
 
 	private List<Integer> generateDayCandidatesQuestionMarkNotSupported(int year, int month, WeekDay mondayDoWValue) {
-		DateTime date = new DateTime(year, month, 1, 1, 1);
+		int lengthOfMonth = CalendarArithmetic.lengthOfMonth(year, month);
 		Set<Integer> candidates = Sets.newHashSet();
 		if (daysOfMonthCronField.getExpression() instanceof Always && daysOfWeekCronField.getExpression() instanceof Always) {
 			candidates.addAll(FieldValueGeneratorFactory.createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month).generateCandidates(1,
-					date.dayOfMonth().getMaximumValue()));
+					lengthOfMonth));
 		} else {
 			if (daysOfMonthCronField.getExpression() instanceof Always) {
 				candidates.addAll(FieldValueGeneratorFactory.createDayOfWeekValueGeneratorInstance(daysOfWeekCronField, year, month, mondayDoWValue)
-						.generateCandidates(1, date.dayOfMonth().getMaximumValue()));
+						.generateCandidates(1, lengthOfMonth));
 			} else {
 				if (daysOfWeekCronField.getExpression() instanceof Always) {
 					candidates.addAll(FieldValueGeneratorFactory.createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month).generateCandidates(
-							1, date.dayOfMonth().getMaximumValue()));
+							1, lengthOfMonth));
 				} else {
 					candidates.addAll(FieldValueGeneratorFactory.createDayOfWeekValueGeneratorInstance(daysOfWeekCronField, year, month, mondayDoWValue)
-							.generateCandidates(1, date.dayOfMonth().getMaximumValue()));
+							.generateCandidates(1, lengthOfMonth));
 					candidates.addAll(FieldValueGeneratorFactory.createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month).generateCandidates(
-							1, date.dayOfMonth().getMaximumValue()));
+							1, lengthOfMonth));
 				}
 			}
 		}
@@ -410,20 +1316,27 @@ public class ExecutionTime {
 	}
 
     private List<Integer> generateDayCandidatesQuestionMarkSupported(int year, int month, WeekDay mondayDoWValue){
-        DateTime date = new DateTime(year, month, 1,1,1);
+        int lengthOfMonth = CalendarArithmetic.lengthOfMonth(year, month);
         Set<Integer> candidates = Sets.newHashSet();
         if(daysOfMonthCronField.getExpression() instanceof Always && daysOfWeekCronField.getExpression() instanceof Always){
-            candidates.addAll(FieldValueGeneratorFactory.createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month).generateCandidates(1, date.dayOfMonth().getMaximumValue()));
+            candidates.addAll(FieldValueGeneratorFactory.createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month).generateCandidates(1, lengthOfMonth));
         } else {
             if(daysOfMonthCronField.getExpression() instanceof QuestionMark){
-            	// the day of week calculator must get a -1 value to indicate its generating the first value of the month
-                candidates.addAll(FieldValueGeneratorFactory.createDayOfWeekValueGeneratorInstance(daysOfWeekCronField, year, month, mondayDoWValue).generateCandidates(-1, date.dayOfMonth().getMaximumValue()));
+                if(daysOfWeekCronField.getExpression() instanceof Always){
+                    // any day of week: all days of month are candidates
+                    for(int day = 1; day <= lengthOfMonth; day++){
+                        candidates.add(day);
+                    }
+                }else{
+                    // the day of week calculator must get a -1 value to indicate its generating the first value of the month
+                    candidates.addAll(FieldValueGeneratorFactory.createDayOfWeekValueGeneratorInstance(daysOfWeekCronField, year, month, mondayDoWValue).generateCandidates(-1, lengthOfMonth));
+                }
             }else{
                 if(daysOfWeekCronField.getExpression() instanceof QuestionMark){
-                    candidates.addAll(FieldValueGeneratorFactory.createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month).generateCandidates(1, date.dayOfMonth().getMaximumValue()));
+                    candidates.addAll(FieldValueGeneratorFactory.createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month).generateCandidates(1, lengthOfMonth));
                 }else{
-                    candidates.addAll(FieldValueGeneratorFactory.createDayOfWeekValueGeneratorInstance(daysOfWeekCronField, year, month, mondayDoWValue).generateCandidates(1, date.dayOfMonth().getMaximumValue()));
-                    candidates.addAll(FieldValueGeneratorFactory.createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month).generateCandidates(1, date.dayOfMonth().getMaximumValue()));
+                    candidates.addAll(FieldValueGeneratorFactory.createDayOfWeekValueGeneratorInstance(daysOfWeekCronField, year, month, mondayDoWValue).generateCandidates(1, lengthOfMonth));
+                    candidates.addAll(FieldValueGeneratorFactory.createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month).generateCandidates(1, lengthOfMonth));
                 }
             }
         }
@@ -432,40 +1345,154 @@ public class ExecutionTime {
         return candidatesList;
     }
 
-    private DateTime initDateTime(int years, int monthsOfYear, int dayOfMonth,
-                                  int hoursOfDay, int minutesOfHour, int secondsOfMinute, DateTimeZone timeZone) {
-        DateTime date =
-                new DateTime(0, 1, 1, 0, 0, 0, timeZone)
-                        .plusYears(years)
-                        .plusMonths(monthsOfYear - 1)
-                        .plusDays(dayOfMonth - 1)
-                        .plusHours(hoursOfDay)
-                        .plusMinutes(minutesOfHour)
-                        .plusSeconds(secondsOfMinute);
-        return ensureSameDate(date, years, monthsOfYear, dayOfMonth,
-                hoursOfDay, minutesOfHour, secondsOfMinute, timeZone);
+    /**
+     * Instant decomposed into the offset segment holding it and local date fields,
+     * so it can be shared by searches of many execution times.
+     */
+    private static final class Reference {
+        private final long epochSecond;
+        private final long segmentStart;
+        private final long segmentEnd;
+        private final int offset;
+        private final int offsetBefore;
+        private final long localSecond;
+        private final int year;
+        private final int month;
+        private final int day;
+        private final int hour;
+        private final int minute;
+        private final int second;
+
+        private Reference(long epochSecond, ExecutionZone zone) {
+            this.epochSecond = epochSecond;
+            this.segmentStart = zone.segmentStart(epochSecond);
+            this.segmentEnd = zone.segmentEnd(epochSecond);
+            this.offset = zone.getOffset(epochSecond);
+            this.offsetBefore = zone.getOffset(segmentStart - 1);
+            this.localSecond = epochSecond + offset;
+            long epochDay = CalendarArithmetic.epochDayOf(localSecond);
+            int secondOfDay = CalendarArithmetic.secondOfDay(localSecond);
+            int date = CalendarArithmetic.packedDate(epochDay);
+            this.year = CalendarArithmetic.year(date);
+            this.month = CalendarArithmetic.month(date);
+            this.day = CalendarArithmetic.day(date);
+            this.hour = secondOfDay / CalendarArithmetic.SECONDS_PER_HOUR;
+            this.minute = secondOfDay / CalendarArithmetic.SECONDS_PER_MINUTE % 60;
+            this.second = secondOfDay % 60;
+        }
     }
 
-    private DateTime ensureSameDate(DateTime date, int years, int monthsOfYear, int dayOfMonth,
-                                    int hoursOfDay, int minutesOfHour, int secondsOfMinute, DateTimeZone timeZone){
-        if(date.getSecondOfMinute()!=secondsOfMinute){
-            date = date.plusSeconds(secondsOfMinute-date.getSecondOfMinute());
+    /**
+     * Position of the last execution found for ascending references: its constant offset segment and its local month.
+     * A reference falling in the same segment and month resumes the field search from the compiled month,
+     * without resolving the zone or decomposing the date again;
+     * the position is only resolved again once a reference or an execution crosses a segment or month boundary.
+     */
+    private final class Cursor {
+        private final ExecutionZone zone;
+        private long segmentStart;
+        private long segmentEnd;
+        private int offset;
+        private int offsetBefore;
+        private int year;
+        private int month;
+        //local seconds: included start and excluded end of the month; empty until an execution is found
+        private long monthStart = Long.MAX_VALUE;
+        private long monthEnd = Long.MIN_VALUE;
+
+        private Cursor(ExecutionZone zone) {
+            this.zone = zone;
         }
-        if(date.getMinuteOfHour()!=minutesOfHour){
-            date = date.plusMinutes(minutesOfHour-date.getMinuteOfHour());
+
+        /**
+         * @see ExecutionTime#nextExecution(long, ExecutionZone)
+         */
+        private long nextExecution(long epochSecond) {
+            long candidate = epochSecond + 1;
+            long from = candidate + offset;
+            if(isCompiled(candidate, from)
+                    && !(overlapPolicy == OverlapPolicy.ONCE && offsetBefore > offset && from < segmentStart + offsetBefore)
+                    && !(gapPolicy == GapPolicy.SHIFT && offset > offsetBefore && candidate + offsetBefore < segmentStart + offset)){
+                long sinceMonthStart = from - monthStart;
+                int secondOfDay = (int) (sinceMonthStart % CalendarArithmetic.SECONDS_PER_DAY);
+                long match = nextLocalMatch(year, month, (int) (sinceMonthStart / CalendarArithmetic.SECONDS_PER_DAY) + 1,
+                        secondOfDay / CalendarArithmetic.SECONDS_PER_HOUR, secondOfDay / CalendarArithmetic.SECONDS_PER_MINUTE % 60, secondOfDay % 60);
+                if(match != NO_EXECUTION && match < segmentEnd + offset){
+                    if(match >= monthEnd){
+                        moveToMonth(match);
+                    }
+                    return match - offset;
+                }
+            }
+            long execution = ExecutionTime.this.nextExecution(epochSecond, zone);
+            moveTo(execution);
+            return execution;
         }
-        if(date.getHourOfDay()!=hoursOfDay){
-            date = date.plusHours(hoursOfDay-date.getHourOfDay());
+
+        /**
+         * @see ExecutionTime#lastExecution(long, ExecutionZone)
+         */
+        private long lastExecution(long epochSecond) {
+            long candidate = epochSecond - 1;
+            long to = candidate + offset;
+            long lowest = overlapPolicy == OverlapPolicy.ONCE && offsetBefore > offset ? segmentStart + offsetBefore : segmentStart + offset;
+            if(isCompiled(candidate, to) && to >= lowest && !(gapPolicy == GapPolicy.SHIFT && offset > offsetBefore)){
+                long sinceMonthStart = to - monthStart;
+                int secondOfDay = (int) (sinceMonthStart % CalendarArithmetic.SECONDS_PER_DAY);
+                long match = previousLocalMatch(year, month, (int) (sinceMonthStart / CalendarArithmetic.SECONDS_PER_DAY) + 1,
+                        secondOfDay / CalendarArithmetic.SECONDS_PER_HOUR, secondOfDay / CalendarArithmetic.SECONDS_PER_MINUTE % 60, secondOfDay % 60);
+                if(match != NO_EXECUTION && match >= lowest){
+                    if(match < monthStart){
+                        moveToMonth(match);
+                    }
+                    return match - offset;
+                }
+            }
+            long execution = ExecutionTime.this.lastExecution(epochSecond, zone);
+            moveTo(execution);
+            return execution;
         }
-        if(date.getDayOfMonth()!=dayOfMonth){
-            date = date.plusDays(dayOfMonth-date.getDayOfMonth());
+
+        /**
+         * @return true if given instant and its local second are within the compiled segment and month
+         */
+        private boolean isCompiled(long epochSecond, long localSecond) {
+            return period == 0 && epochSecond >= segmentStart && epochSecond < segmentEnd
+                    && localSecond >= monthStart && localSecond < monthEnd;
         }
-        if(date.getMonthOfYear()!=monthsOfYear){
-            date = date.plusMonths(monthsOfYear-date.getMonthOfYear());
+
+        private void moveTo(long execution) {
+            if(execution == NO_EXECUTION){
+                monthStart = Long.MAX_VALUE;
+                monthEnd = Long.MIN_VALUE;
+                return;
+            }
+            segmentStart = zone.segmentStart(execution);
+            segmentEnd = zone.segmentEnd(execution);
+            offset = zone.getOffset(execution);
+            offsetBefore = zone.getOffset(segmentStart - 1);
+            moveToMonth(execution + offset);
+        }
+
+        private void moveToMonth(long localSecond) {
+            int date = CalendarArithmetic.packedDate(CalendarArithmetic.epochDayOf(localSecond));
+            year = CalendarArithmetic.year(date);
+            month = CalendarArithmetic.month(date);
+            monthStart = CalendarArithmetic.epochDay(year, month, 1) * CalendarArithmetic.SECONDS_PER_DAY;
+            monthEnd = monthStart + CalendarArithmetic.lengthOfMonth(year, month) * (long) CalendarArithmetic.SECONDS_PER_DAY;
         }
-        if(date.getYear()!=years){
-            date = date.plusYears(years-date.getYear());
+    }
+
+    /**
+     * Day of month candidates resolved for a single (year, month) key.
+     */
+    private static final class MonthDays {
+        private final int key;
+        private final TimeNode days;
+
+        private MonthDays(int key, TimeNode days) {
+            this.key = key;
+            this.days = days;
         }
-        return date;
     }
 }
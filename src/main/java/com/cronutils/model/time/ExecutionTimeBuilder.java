@@ -6,7 +6,7 @@ import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.CronFieldName;
 import com.cronutils.model.field.constraint.FieldConstraints;
 import com.cronutils.model.field.constraint.FieldConstraintsBuilder;
-import com.cronutils.model.field.expression.Always;
+import com.cronutils.model.field.expression.FieldExpressionFactory;
 import com.cronutils.model.field.expression.On;
 import com.cronutils.model.field.value.IntegerFieldValue;
 import com.cronutils.model.time.generator.FieldValueGenerator;
@@ -37,11 +37,18 @@ class ExecutionTimeBuilder {
     private TimeNode hours;
     private TimeNode minutes;
     private TimeNode seconds;
+    private int searchHorizonYears = ExecutionTime.DEFAULT_SEARCH_HORIZON_YEARS;
 
     ExecutionTimeBuilder(CronDefinition cronDefinition){
         this.cronDefinition = cronDefinition;
     }
 
+    ExecutionTimeBuilder withSearchHorizon(int searchHorizonYears){
+        Validate.isTrue(searchHorizonYears > 0, "Search horizon must be at least one year");
+        this.searchHorizonYears = searchHorizonYears;
+        return this;
+    }
+
     ExecutionTimeBuilder forSecondsMatching(CronField cronField){
         validate(CronFieldName.SECOND, cronField);
         seconds = new TimeNode(FieldValueGeneratorFactory.forCronField(cronField).generateCandidates(0,59));
@@ -104,16 +111,16 @@ class ExecutionTimeBuilder {
         if(daysOfMonthCronField==null){
             FieldConstraints constraints = getConstraint(CronFieldName.DAY_OF_MONTH);
             daysOfMonthCronField=lowestAssigned?
-                    new CronField(CronFieldName.DAY_OF_MONTH, new Always(), constraints):
-                    new CronField(CronFieldName.DAY_OF_MONTH, new On(new IntegerFieldValue(0)), constraints);
+                    new CronField(CronFieldName.DAY_OF_MONTH, FieldExpressionFactory.always(), constraints):
+                    new CronField(CronFieldName.DAY_OF_MONTH, new On(IntegerFieldValue.of(0)), constraints);
         }else{
             lowestAssigned=true;
         }
         if(daysOfWeekCronField==null){
             FieldConstraints constraints = getConstraint(CronFieldName.DAY_OF_WEEK);
             daysOfWeekCronField=lowestAssigned?
-                    new CronField(CronFieldName.DAY_OF_WEEK, new Always(), constraints):
-                    new CronField(CronFieldName.DAY_OF_WEEK, new On(new IntegerFieldValue(0)), constraints);
+                    new CronField(CronFieldName.DAY_OF_WEEK, FieldExpressionFactory.always(), constraints):
+                    new CronField(CronFieldName.DAY_OF_WEEK, new On(IntegerFieldValue.of(0)), constraints);
         }else{
             lowestAssigned=true;
         }
@@ -123,13 +130,13 @@ class ExecutionTimeBuilder {
         if(yearsValueGenerator==null){
             yearsValueGenerator =
                     FieldValueGeneratorFactory.forCronField(
-                            new CronField(CronFieldName.YEAR,new Always(), getConstraint(CronFieldName.YEAR))
+                            new CronField(CronFieldName.YEAR,FieldExpressionFactory.always(), getConstraint(CronFieldName.YEAR))
                     );
         }
 
         return new ExecutionTime(cronDefinition,
                 yearsValueGenerator, daysOfWeekCronField, daysOfMonthCronField,
-                months, hours, minutes, seconds
+                months, hours, minutes, seconds, searchHorizonYears
         );
     }
 
@@ -137,14 +144,14 @@ class ExecutionTimeBuilder {
         FieldConstraints constraints = getConstraint(name);
         return new TimeNode(
                 FieldValueGeneratorFactory.forCronField(
-                        new CronField(name, new On(new IntegerFieldValue(lower)), constraints)
+                        new CronField(name, new On(IntegerFieldValue.of(lower)), constraints)
                 ).generateCandidates(lower, higher));
     }
 
     private TimeNode timeNodeAlways(CronFieldName name, int lower, int higher){
         return new TimeNode(
                 FieldValueGeneratorFactory.forCronField(
-                        new CronField(name,new Always(), getConstraint(name))
+                        new CronField(name,FieldExpressionFactory.always(), getConstraint(name))
                 ).generateCandidates(lower, higher));
     }
 
@@ -0,0 +1,171 @@
+package com.cronutils.model.time;
+
+import com.cronutils.model.Cron;
+import com.cronutils.model.definition.CronDefinition;
+import com.cronutils.model.field.CronField;
+import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.field.expression.And;
+import com.cronutils.model.field.expression.FieldExpression;
+import com.cronutils.model.field.expression.Hashed;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.apache.commons.lang3.Validate;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Bounded, thread safe cache of ExecutionTime instances.
+ * Entries are keyed by the normalized cron expression (Cron.asString()) and its CronDefinition,
+ * so equivalent crons share a single compiled ExecutionTime.
+ * CronDefinition instances are compared by identity: reuse them to share entries.
+ * When full, least recently used entries are evicted.
+ */
+public class ExecutionTimeCache {
+    public static final long DEFAULT_MAXIMUM_SIZE = 10000;
+    private static final ExecutionTimeCache shared = new ExecutionTimeCache(DEFAULT_MAXIMUM_SIZE);
+
+    private final Cache<Key, ExecutionTime> cache;
+
+    /**
+     * @param maximumSize - maximum amount of entries kept. Must not be negative.
+     */
+    public ExecutionTimeCache(long maximumSize) {
+        Validate.isTrue(maximumSize >= 0, "Maximum size must not be negative");
+        this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
+
+    /**
+     * @return process wide cache instance, holding up to DEFAULT_MAXIMUM_SIZE entries.
+     */
+    public static ExecutionTimeCache shared() {
+        return shared;
+    }
+
+    /**
+     * Provides execution time for given cron from the process wide cache.
+     * @param cron - Cron instance. If null, a NullPointerException will be raised.
+     * @return ExecutionTime instance, never null.
+     */
+    public static ExecutionTime forCron(Cron cron) {
+        return shared.get(cron);
+    }
+
+    /**
+     * Provides execution time for given cron, creating it if not cached.
+     * @param cron - Cron instance. If null, a NullPointerException will be raised.
+     * @return ExecutionTime instance, never null.
+     */
+    public ExecutionTime get(final Cron cron) {
+        Validate.notNull(cron, "Cron must not be null");
+        try {
+            return cache.get(new Key(expressionOf(cron), cron.getCronDefinition()), new Callable<ExecutionTime>() {
+                @Override
+                public ExecutionTime call() throws Exception {
+                    return ExecutionTime.forCron(cron);
+                }
+            });
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (UncheckedExecutionException e) {
+            if(e.getCause() instanceof RuntimeException){
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return hit, miss and eviction statistics since this cache was created.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return approximate amount of cached entries.
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * Discards all cached entries.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Hashed (H) values print the same for every hash key, so their hashes are appended to the expression.
+     * @param cron - Cron instance
+     * @return String identifying cron expression for given definition
+     */
+    private static String expressionOf(Cron cron) {
+        String expression = cron.asString();
+        if (!expression.contains("H")) {
+            return expression;
+        }
+        StringBuilder builder = new StringBuilder(expression);
+        for (CronFieldName name : CronFieldName.values()) {
+            CronField field = cron.retrieve(name);
+            if (field != null) {
+                appendHashes(builder, field.getExpression());
+            }
+        }
+        return builder.toString();
+    }
+
+    private static void appendHashes(StringBuilder builder, FieldExpression expression) {
+        if (expression instanceof Hashed) {
+            builder.append(' ').append(((Hashed) expression).getHash());
+        }
+        if (expression instanceof And) {
+            for (FieldExpression andExpression : ((And) expression).getExpressions()) {
+                appendHashes(builder, andExpression);
+            }
+        }
+    }
+
+    private static final class Key {
+        private final String expression;
+        private final CronDefinition cronDefinition;
+
+        private Key(String expression, CronDefinition cronDefinition) {
+            this.expression = expression;
+            this.cronDefinition = cronDefinition;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return cronDefinition == key.cronDefinition && expression.equals(key.expression);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * expression.hashCode() + System.identityHashCode(cronDefinition);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.cronutils.model.time;
+
+import org.joda.time.DateTimeZone;
+
+import java.util.Arrays;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Converts between instants and wall clock time for a time zone,
+ * so execution time calculations do not depend on a specific date time library.
+ * Offset transitions are precomputed per year and kept in a small table,
+ * so an offset lookup is a scan over the few transitions of that year.
+ * The timeline is split in segments: spans of constant offset,
+ * bounded by transitions or by the start of a year.
+ * Instances are cached per zone: looking one up does not allocate.
+ */
+abstract class ExecutionZone {
+    /**
+     * Amount of years for which transitions are kept. Must be a power of two.
+     */
+    private static final int TRANSITIONS_CACHE_SIZE = 64;
+    private static final ConcurrentMap<DateTimeZone, ExecutionZone> jodaZones = new ConcurrentHashMap<DateTimeZone, ExecutionZone>();
+    private static final ConcurrentMap<TimeZone, ExecutionZone> jdkZones = new ConcurrentHashMap<TimeZone, ExecutionZone>();
+
+    private final AtomicReferenceArray<YearTransitions> transitionsCache =
+            new AtomicReferenceArray<YearTransitions>(TRANSITIONS_CACHE_SIZE);
+
+    static ExecutionZone of(DateTimeZone zone){
+        ExecutionZone executionZone = jodaZones.get(zone);
+        if(executionZone == null){
+            executionZone = new JodaExecutionZone(zone);
+            ExecutionZone existing = jodaZones.putIfAbsent(zone, executionZone);
+            if(existing != null){
+                executionZone = existing;
+            }
+        }
+        return executionZone;
+    }
+
+    static ExecutionZone of(TimeZone zone){
+        ExecutionZone executionZone = jdkZones.get(zone);
+        if(executionZone == null){
+            //TimeZone is mutable: keep our own copy
+            TimeZone copy = (TimeZone) zone.clone();
+            executionZone = new JdkExecutionZone(copy);
+            ExecutionZone existing = jdkZones.putIfAbsent(copy, executionZone);
+            if(existing != null){
+                executionZone = existing;
+            }
+        }
+        return executionZone;
+    }
+
+    /**
+     * Queries underlying time zone rules.
+     * @param epochSecond - instant, as seconds from 1970-01-01T00:00:00Z
+     * @return offset from UTC at given instant, in seconds
+     */
+    abstract int computeOffset(long epochSecond);
+
+    /**
+     * Queries underlying time zone rules.
+     * @param epochSecond - instant, as seconds from 1970-01-01T00:00:00Z
+     * @param limit - instant where lookup stops
+     * @return first instant after given one and before limit where offset changes; limit if there is none
+     */
+    abstract long computeNextTransition(long epochSecond, long limit);
+
+    /**
+     * @param epochSecond - instant, as seconds from 1970-01-01T00:00:00Z
+     * @return offset from UTC at given instant, in seconds
+     */
+    int getOffset(long epochSecond){
+        YearTransitions transitions = transitionsFor(epochSecond);
+        return transitions.offsets[transitions.indexOf(epochSecond)];
+    }
+
+    /**
+     * @param epochSecond - instant, as seconds from 1970-01-01T00:00:00Z
+     * @return first instant of the constant offset segment holding given instant
+     */
+    long segmentStart(long epochSecond){
+        YearTransitions transitions = transitionsFor(epochSecond);
+        int index = transitions.indexOf(epochSecond);
+        return index == 0 ? transitions.start : transitions.instants[index - 1];
+    }
+
+    /**
+     * @param epochSecond - instant, as seconds from 1970-01-01T00:00:00Z
+     * @return first instant after the constant offset segment holding given instant
+     */
+    long segmentEnd(long epochSecond){
+        YearTransitions transitions = transitionsFor(epochSecond);
+        int index = transitions.indexOf(epochSecond);
+        return index == transitions.instants.length ? transitions.end : transitions.instants[index];
+    }
+
+    /**
+     * Offset to subtract from a wall clock time to obtain an instant.
+     * If local time is repeated by an overlap, the earlier instant is selected;
+     * if it falls in a gap, it is shifted forward by the length of the gap.
+     * @param localSecond - wall clock time, as seconds from 1970-01-01T00:00:00
+     * @return offset from UTC, in seconds
+     */
+    int getOffsetFromLocal(long localSecond){
+        long estimate = localSecond - getOffset(localSecond);
+        long start = segmentStart(estimate);
+        long end = segmentEnd(estimate);
+        int offset = getOffset(estimate);
+        int offsetBefore = getOffset(start - 1);
+        if(localSecond < start + offset){
+            //before this segment: either valid in previous one, or in the gap ending this segment
+            return offsetBefore;
+        }
+        if(localSecond < end + offset){
+            //valid in this segment; if also valid in the previous one, keep the earlier instant
+            return localSecond < start + offsetBefore ? offsetBefore : offset;
+        }
+        int offsetAfter = getOffset(end);
+        //after this segment: either valid in next one, or in the gap starting there
+        return localSecond >= end + offsetAfter ? offsetAfter : offset;
+    }
+
+    long toLocalSecond(long epochSecond){
+        return epochSecond + getOffset(epochSecond);
+    }
+
+    long toEpochSecond(long localSecond){
+        return localSecond - getOffsetFromLocal(localSecond);
+    }
+
+    private YearTransitions transitionsFor(long epochSecond){
+        int year = CalendarArithmetic.year(CalendarArithmetic.packedDate(CalendarArithmetic.epochDayOf(epochSecond)));
+        int index = year & (TRANSITIONS_CACHE_SIZE - 1);
+        YearTransitions transitions = transitionsCache.get(index);
+        if(transitions == null || transitions.year != year){
+            transitions = computeTransitions(year);
+            transitionsCache.set(index, transitions);
+        }
+        return transitions;
+    }
+
+    private YearTransitions computeTransitions(int year){
+        long start = CalendarArithmetic.epochDay(year, 1, 1) * CalendarArithmetic.SECONDS_PER_DAY;
+        long end = CalendarArithmetic.epochDay(year + 1, 1, 1) * CalendarArithmetic.SECONDS_PER_DAY;
+        long[] instants = new long[4];
+        int[] offsets = new int[5];
+        int count = 0;
+        offsets[0] = computeOffset(start);
+        long transition = computeNextTransition(start, end);
+        while(transition < end){
+            int offset = computeOffset(transition);
+            if(offset != offsets[count]){
+                if(count == instants.length){
+                    instants = Arrays.copyOf(instants, count * 2);
+                    offsets = Arrays.copyOf(offsets, count * 2 + 1);
+                }
+                instants[count] = transition;
+                offsets[++count] = offset;
+            }
+            transition = computeNextTransition(transition, end);
+        }
+        return new YearTransitions(year, start, end, Arrays.copyOf(instants, count), Arrays.copyOf(offsets, count + 1));
+    }
+
+    /**
+     * Offset transitions within a single year, UTC.
+     */
+    private static final class YearTransitions {
+        private final int year;
+        private final long start;
+        private final long end;
+        private final long[] instants;
+        /**
+         * offsets[0] applies from start of year, offsets[j+1] from instants[j]
+         */
+        private final int[] offsets;
+
+        private YearTransitions(int year, long start, long end, long[] instants, int[] offsets) {
+            this.year = year;
+            this.start = start;
+            this.end = end;
+            this.instants = instants;
+            this.offsets = offsets;
+        }
+
+        /**
+         * @return amount of transitions up to given instant
+         */
+        private int indexOf(long epochSecond){
+            int index = 0;
+            while(index < instants.length && instants[index] <= epochSecond){
+                index++;
+            }
+            return index;
+        }
+    }
+
+    private static final class JodaExecutionZone extends ExecutionZone {
+        private final DateTimeZone zone;
+
+        private JodaExecutionZone(DateTimeZone zone) {
+            this.zone = zone;
+        }
+
+        @Override
+        int computeOffset(long epochSecond) {
+            return zone.getOffset(epochSecond * 1000L) / 1000;
+        }
+
+        @Override
+        long computeNextTransition(long epochSecond, long limit) {
+            long next = zone.nextTransition(epochSecond * 1000L);
+            long nextSecond = CalendarArithmetic.floorDiv(next + 999, 1000);
+            return nextSecond > epochSecond && nextSecond < limit ? nextSecond : limit;
+        }
+    }
+
+    private static final class JdkExecutionZone extends ExecutionZone {
+        /**
+         * TimeZone does not expose its transitions: we probe offsets at this step.
+         */
+        private static final long PROBE_SECONDS = 6 * CalendarArithmetic.SECONDS_PER_HOUR;
+        private final TimeZone zone;
+
+        private JdkExecutionZone(TimeZone zone) {
+            this.zone = zone;
+        }
+
+        @Override
+        int computeOffset(long epochSecond) {
+            return zone.getOffset(epochSecond * 1000L) / 1000;
+        }
+
+        @Override
+        long computeNextTransition(long epochSecond, long limit) {
+            int offset = computeOffset(epochSecond);
+            long low = epochSecond;
+            while(low < limit){
+                long high = Math.min(low + PROBE_SECONDS, limit);
+                if(computeOffset(high) != offset){
+                    //offset changes in (low, high]: find first second with new offset
+                    while(high - low > 1){
+                        long middle = low + (high - low) / 2;
+                        if(computeOffset(middle) == offset){
+                            low = middle;
+                        }else{
+                            high = middle;
+                        }
+                    }
+                    return high;
+                }
+                low = high;
+            }
+            return limit;
+        }
+    }
+}
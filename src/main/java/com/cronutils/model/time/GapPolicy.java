@@ -0,0 +1,29 @@
+package com.cronutils.model.time;
+
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Defines how executions falling on wall clock times skipped by a time zone transition
+ * (ex.: when daylight saving time starts) are handled.
+ */
+public enum GapPolicy {
+    /**
+     * Execution is moved forward by the length of the gap: 02:30 becomes 03:30 if clocks jump from 02:00 to 03:00.
+     */
+    SHIFT,
+    /**
+     * Execution does not happen.
+     */
+    SKIP
+}
@@ -0,0 +1,29 @@
+package com.cronutils.model.time;
+
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Defines how executions falling on wall clock times repeated by a time zone transition
+ * (ex.: when daylight saving time ends) are handled.
+ */
+public enum OverlapPolicy {
+    /**
+     * Execution happens once, at the earlier instant.
+     */
+    ONCE,
+    /**
+     * Execution happens at both instants.
+     */
+    TWICE
+}
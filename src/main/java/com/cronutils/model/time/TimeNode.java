@@ -25,11 +25,32 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 class TimeNode {
 	private static final Logger log = LoggerFactory.getLogger(TimeNode.class);
+    static final int NO_VALUE = Integer.MIN_VALUE;
+    private static final int MAX_MASK_VALUE = 63;
     protected List<Integer> values;
+    /**
+     * Bit i is set if value i is a candidate.
+     * Covers every cron field: seconds and minutes (0-59), hours, days of month and months.
+     */
+    private long mask;
+    /**
+     * True if all values fit into the mask, so we can skip scanning the values list.
+     */
+    private boolean masked;
+    private int lowest;
+    private int highest;
 
     public TimeNode(List<Integer> values){
         this.values = Validate.notEmpty(values, "Values must not be empty");
         Collections.sort(this.values);
+        this.lowest = this.values.get(0);
+        this.highest = this.values.get(this.values.size()-1);
+        this.masked = lowest >= 0 && highest <= MAX_MASK_VALUE;
+        if(masked){
+            for(int value : this.values){
+                mask |= 1L << value;
+            }
+        }
     }
 
     public NearestValue getNextValue(int reference, int shifts){
@@ -44,6 +65,97 @@ class TimeNode {
         return getNearestBackwardValue(reference, shifts);
     }
 
+    /**
+     * Checks if given value is a candidate
+     * @param value - value to be checked
+     * @return true if value is contained, false otherwise.
+     */
+    public boolean contains(int value){
+        if(masked){
+            return value >= 0 && value <= MAX_MASK_VALUE && (mask & (1L << value)) != 0;
+        }
+        return values.contains(value);
+    }
+
+    public int getLowestValue(){
+        return lowest;
+    }
+
+    public int getHighestValue(){
+        return highest;
+    }
+
+    /**
+     * Number of candidate values
+     * @return int, always greater than zero.
+     */
+    public int size(){
+        return masked ? Long.bitCount(mask) : values.size();
+    }
+
+    /**
+     * Lowest candidate greater or equal to reference
+     * @param reference - reference value
+     * @return candidate value or NO_VALUE if there is none
+     */
+    public int ceiling(int reference){
+        if(masked){
+            if(reference > MAX_MASK_VALUE){
+                return NO_VALUE;
+            }
+            long candidates = reference <= 0 ? mask : mask & (-1L << reference);
+            return candidates == 0 ? NO_VALUE : Long.numberOfTrailingZeros(candidates);
+        }
+        for(int value : values){
+            if(value >= reference){
+                return value;
+            }
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * Highest candidate lower or equal to reference
+     * @param reference - reference value
+     * @return candidate value or NO_VALUE if there is none
+     */
+    public int floor(int reference){
+        if(masked){
+            if(reference < 0){
+                return NO_VALUE;
+            }
+            long candidates = reference >= MAX_MASK_VALUE ? mask : mask & ((1L << (reference + 1)) - 1);
+            return candidates == 0 ? NO_VALUE : MAX_MASK_VALUE - Long.numberOfLeadingZeros(candidates);
+        }
+        for(int j = values.size() - 1; j >= 0; j--){
+            if(values.get(j) <= reference){
+                return values.get(j);
+            }
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * Number of candidates lower than reference
+     * @param reference - reference value
+     * @return int, zero or greater.
+     */
+    public int countLowerThan(int reference){
+        if(masked){
+            if(reference <= 0){
+                return 0;
+            }
+            return reference > MAX_MASK_VALUE ? Long.bitCount(mask) : Long.bitCount(mask & ((1L << reference) - 1));
+        }
+        int count = 0;
+        for(int value : values){
+            if(value < reference){
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * We return same reference value if matches or next one if does not match.
      * Then we start applying shifts.
@@ -54,6 +166,24 @@ class TimeNode {
      */
     @VisibleForTesting
     NearestValue getNearestForwardValue(int reference, int shiftsToApply){
+        if(masked){
+            int shift = 0;
+            int value = ceiling(reference);
+            if(value == NO_VALUE){
+                value = lowest;
+                shift++;
+            } else if(value != reference){
+                shiftsToApply--;//we just moved a position!
+            }
+            for(int j=0;j<shiftsToApply;j++){
+                value = ceiling(value + 1);
+                if(value == NO_VALUE){
+                    value = lowest;
+                    shift++;
+                }
+            }
+            return new NearestValue(value, shift);
+        }
         List<Integer> values = new ArrayList<Integer>(this.values);
         int index=0;
         boolean foundGreater = false;
@@ -91,6 +221,24 @@ class TimeNode {
      */
     @VisibleForTesting
     NearestValue getNearestBackwardValue(int reference, int shiftsToApply){
+        if(masked){
+            int shift = 0;
+            int value = floor(reference);
+            if(value == NO_VALUE){
+                value = highest;
+                shift++;
+            } else if(value != reference){
+                shiftsToApply--;//we just moved a position!
+            }
+            for(int j=0;j<shiftsToApply;j++){
+                value = floor(value - 1);
+                if(value == NO_VALUE){
+                    value = highest;
+                    shift++;
+                }
+            }
+            return new NearestValue(value, shift);
+        }
         List<Integer> values = new ArrayList<Integer>(this.values);
         Collections.reverse(values);
         int index=0;
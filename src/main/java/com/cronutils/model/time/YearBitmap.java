@@ -0,0 +1,173 @@
+package com.cronutils.model.time;
+
+import com.cronutils.model.field.constraint.FieldConstraints;
+import com.cronutils.model.time.generator.FieldValueGenerator;
+import com.cronutils.model.time.generator.NoSuchValueException;
+import org.apache.commons.lang3.Validate;
+
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Year field compiled into a bitmap over the supported range (ex.: 1970-2099 for Quartz),
+ * so membership and next or previous year lookups do not allocate.
+ * Ranges wider than MAX_YEARS are compiled from their start;
+ * years past the bitmap are answered by the field value generator.
+ */
+class YearBitmap {
+    static final int NO_VALUE = TimeNode.NO_VALUE;
+    /**
+     * Maximum amount of years held by the bitmap.
+     */
+    static final int MAX_YEARS = 4096;
+    private final FieldValueGenerator generator;
+    private final int first;
+    private final int last;
+    private final int end;
+    /**
+     * True if years after last are not valid for the field.
+     */
+    private final boolean lastInRange;
+    /**
+     * Bit (year - first) is set if year is a candidate.
+     */
+    private final long[] words;
+
+    YearBitmap(FieldValueGenerator generator, FieldConstraints constraints){
+        this.generator = Validate.notNull(generator, "Generator must not be null");
+        Validate.notNull(constraints, "Constraints must not be null");
+        this.first = constraints.getStartRange();
+        this.last = (int) Math.min(constraints.getEndRange(), (long) first + MAX_YEARS - 1);
+        this.end = constraints.getEndRange();
+        this.lastInRange = last == end;
+        this.words = new long[(last - first) / 64 + 1];
+        for(int year = first; year <= last; year++){
+            if(generator.isMatch(year)){
+                words[(year - first) >> 6] |= 1L << (year - first);
+            }
+        }
+    }
+
+    /**
+     * @return lowest valid year for the field
+     */
+    int getFirstYear(){
+        return first;
+    }
+
+    /**
+     * @return highest valid year for the field; Integer.MAX_VALUE if unbounded
+     */
+    int getLastYear(){
+        return end;
+    }
+
+    /**
+     * Checks if every year held by the bitmap is a candidate.
+     * Years past the bitmap are expected to follow the same rule.
+     * @return true if all years are candidates, false otherwise.
+     */
+    boolean isFull(){
+        int size = last - first + 1;
+        for(int word = 0; word < words.length; word++){
+            int bits = Math.min(64, size - (word << 6));
+            if(Long.bitCount(words[word]) != bits){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean contains(int year){
+        if(year >= first && year <= last){
+            return (words[(year - first) >> 6] & (1L << (year - first))) != 0;
+        }
+        return year > last && !lastInRange && generator.isMatch(year);
+    }
+
+    /**
+     * Lowest candidate year greater or equal to reference
+     * @param year - reference year
+     * @return candidate year or NO_VALUE if there is none
+     */
+    int ceiling(int year){
+        if(year > last){
+            return lastInRange ? NO_VALUE : generatorCeiling(year);
+        }
+        int index = Math.max(year, first) - first;
+        int word = index >> 6;
+        long candidates = words[word] & (-1L << index);
+        while(candidates == 0){
+            if(++word == words.length){
+                return lastInRange ? NO_VALUE : generatorCeiling(last + 1);
+            }
+            candidates = words[word];
+        }
+        return first + (word << 6) + Long.numberOfTrailingZeros(candidates);
+    }
+
+    /**
+     * Highest candidate year lower or equal to reference
+     * @param year - reference year
+     * @return candidate year or NO_VALUE if there is none
+     */
+    int floor(int year){
+        if(year < first){
+            return NO_VALUE;
+        }
+        if(year > last){
+            if(lastInRange){
+                year = last;
+            }else{
+                int candidate = generatorFloor(year);
+                if(candidate == NO_VALUE || candidate <= last){
+                    year = last;
+                }else{
+                    return candidate;
+                }
+            }
+        }
+        int index = year - first;
+        int word = index >> 6;
+        long candidates = words[word] & (-1L >>> (63 - (index & 63)));
+        while(candidates == 0){
+            if(--word < 0){
+                return NO_VALUE;
+            }
+            candidates = words[word];
+        }
+        return first + (word << 6) + 63 - Long.numberOfLeadingZeros(candidates);
+    }
+
+    private int generatorCeiling(int year){
+        if(generator.isMatch(year)){
+            return year;
+        }
+        try {
+            return generator.generateNextValue(year);
+        } catch (NoSuchValueException e) {
+            return NO_VALUE;
+        }
+    }
+
+    private int generatorFloor(int year){
+        if(generator.isMatch(year)){
+            return year;
+        }
+        try {
+            return generator.generatePreviousValue(year);
+        } catch (NoSuchValueException e) {
+            return NO_VALUE;
+        }
+    }
+}
@@ -6,12 +6,12 @@ import com.cronutils.model.field.CronFieldName;
 import com.cronutils.model.field.constraint.FieldConstraintsBuilder;
 import com.cronutils.model.field.expression.Between;
 import com.cronutils.model.field.expression.FieldExpression;
+import com.cronutils.model.time.CalendarArithmetic;
 import com.cronutils.parser.CronParserField;
 import com.google.common.collect.Lists;
 
 import com.google.common.collect.Sets;
 import org.apache.commons.lang3.Validate;
-import org.joda.time.DateTime;
 
 import java.util.Collections;
 import java.util.List;
@@ -125,6 +125,6 @@ class BetweenDayOfWeekValueGenerator extends FieldValueGenerator {
 
 	@Override
 	public boolean isMatch(int value) {
-        return dowValidValues.contains(new DateTime(year, month, value, 0, 0).getDayOfWeek());
+        return dowValidValues.contains(CalendarArithmetic.dayOfWeek(year, month, value));
 	}
 }
@@ -5,7 +5,6 @@ import com.cronutils.model.field.expression.Every;
 import com.cronutils.model.field.expression.FieldExpression;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
-import org.joda.time.DateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,10 +26,7 @@ class EveryFieldValueGenerator extends FieldValueGenerator {
 
     public EveryFieldValueGenerator(CronField cronField) {
         super(cronField);
-        log.trace(String.format(
-                "processing \"%s\" at %s",
-                cronField.getExpression().asString(), DateTime.now()
-        ));
+        log.trace("processing \"{}\"", cronField.getExpression().asString());
     }
 
     @Override
@@ -6,8 +6,11 @@ import org.slf4j.LoggerFactory;
 import com.cronutils.mapper.WeekDay;
 import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.expression.*;
+import com.cronutils.model.field.value.IntegerFieldValue;
 import com.cronutils.model.field.value.SpecialChar;
 
+import java.util.List;
+
 /*
  * Copyright 2015 jmrozanec
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -43,6 +46,9 @@ public class FieldValueGeneratorFactory {
         if(fieldExpression instanceof Every){
             return new EveryFieldValueGenerator(cronField);
         }
+        if(fieldExpression instanceof Hashed){
+            return forCronField(resolve(cronField));
+        }
         if(fieldExpression instanceof On){
             On on = (On) fieldExpression;
             if(!SpecialChar.NONE.equals(on.getSpecialChar().getValue())) {
@@ -66,6 +72,20 @@ public class FieldValueGeneratorFactory {
 
     public static FieldValueGenerator createDayOfWeekValueGeneratorInstance(CronField cronField, int year, int month, WeekDay mondayDoWValue){
         FieldExpression fieldExpression = cronField.getExpression();
+        // hashed days of week are resolved to the weekdays they select
+        if (fieldExpression instanceof Hashed) {
+            List<Integer> values = ((Hashed) fieldExpression).getValues();
+            if (values.size() == 1) {
+                fieldExpression = new On(IntegerFieldValue.of(values.get(0)));
+            } else {
+                And and = new And();
+                for (int value : values) {
+                    and.and(new On(IntegerFieldValue.of(value)));
+                }
+                fieldExpression = and;
+            }
+            cronField = new CronField(cronField.getField(), fieldExpression, cronField.getConstraints());
+        }
         if (fieldExpression instanceof On) {
             return new OnDayOfWeekValueGenerator(cronField, year, month, mondayDoWValue);
         }
@@ -80,4 +100,11 @@ public class FieldValueGeneratorFactory {
         return forCronField(cronField);
     }
 
+    /**
+     * @param cronField - field holding a Hashed expression
+     * @return field holding the expression without hash that selects same values
+     */
+    private static CronField resolve(CronField cronField){
+        return new CronField(cronField.getField(), ((Hashed) cronField.getExpression()).resolve(), cronField.getConstraints());
+    }
 }
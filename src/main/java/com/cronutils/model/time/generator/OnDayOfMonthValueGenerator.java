@@ -4,9 +4,9 @@ import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.CronFieldName;
 import com.cronutils.model.field.expression.FieldExpression;
 import com.cronutils.model.field.expression.On;
+import com.cronutils.model.time.CalendarArithmetic;
 import com.google.common.collect.Lists;
 import org.apache.commons.lang3.Validate;
-import org.joda.time.DateTime;
 
 import java.util.List;
 /*
@@ -83,31 +83,29 @@ class OnDayOfMonthValueGenerator extends FieldValueGenerator {
         int time = on.getTime().getValue();
         switch (on.getSpecialChar().getValue()){
             case L:
-                return new DateTime(year, month, 1, 1, 1).dayOfMonth().getMaximumValue();
+                return CalendarArithmetic.lengthOfMonth(year, month);
             case W: // First work day of the week
-                DateTime doM = new DateTime(year, month, time, 1, 1);
-                if(doM.getDayOfWeek()==6){//dayOfWeek is Saturday!
+                int doW = CalendarArithmetic.dayOfWeek(year, month, time);
+                if(doW==6){//dayOfWeek is Saturday!
                     if(time==1){//first day in month is Saturday! We execute on Monday
                         return 3;
                     }
                     return time-1;
                 }
-                if(doM.getDayOfWeek()==7){ // dayOfWeek is Sunday
-                    if((time+1)<=doM.dayOfMonth().getMaximumValue()){
+                if(doW==7){ // dayOfWeek is Sunday
+                    if((time+1)<=CalendarArithmetic.lengthOfMonth(year, month)){
                         return time+1;
                     }
                 }
                 return time;  // first day of week is a weekday            
             case LW:
-                DateTime lastDayOfMonth =
-                        new DateTime(year, month, new DateTime(year, month, 1, 1, 1)
-                                .dayOfMonth().getMaximumValue(), 1, 1);
-                int dow = lastDayOfMonth.getDayOfWeek();
+                int lastDayOfMonth = CalendarArithmetic.lengthOfMonth(year, month);
+                int dow = CalendarArithmetic.dayOfWeek(year, month, lastDayOfMonth);
                 int diff = dow - 5;
                 if(diff > 0){
-                    return lastDayOfMonth.minusDays(diff).dayOfMonth().get();
+                    return lastDayOfMonth - diff;
                 }
-                return lastDayOfMonth.dayOfMonth().get();
+                return lastDayOfMonth;
         }
         throw new NoSuchValueException();
     }
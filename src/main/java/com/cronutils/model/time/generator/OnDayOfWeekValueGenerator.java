@@ -6,9 +6,9 @@ import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.CronFieldName;
 import com.cronutils.model.field.expression.FieldExpression;
 import com.cronutils.model.field.expression.On;
+import com.cronutils.model.time.CalendarArithmetic;
 import com.google.common.collect.Lists;
 import org.apache.commons.lang3.Validate;
-import org.joda.time.DateTime;
 
 import java.util.List;
 /*
@@ -96,7 +96,7 @@ class OnDayOfWeekValueGenerator extends FieldValueGenerator {
     }
 
     private int generateHashValues(On on, int year, int month){
-        int dowForFirstDoM = new DateTime(year, month, 1, 1, 1).getDayOfWeek();//1-7
+        int dowForFirstDoM = CalendarArithmetic.dayOfWeek(year, month, 1);//1-7
         int requiredDoW = ConstantsMapper.weekDayMapping(mondayDoWValue, ConstantsMapper.JODATIME_WEEK_DAY, on.getTime().getValue());//to normalize to joda-time value
         int requiredNth = on.getNth().getValue();
         int baseDay = 1;//day 1 from given month
@@ -114,20 +114,19 @@ class OnDayOfWeekValueGenerator extends FieldValueGenerator {
     }
 
     private int generateLValues(On on, int year, int month) throws NoSuchValueException {
-        int lastDoM = new DateTime(year, month, 1, 1, 1).dayOfMonth().getMaximumValue();
-        DateTime lastDoMDateTime = new DateTime(year, month, lastDoM, 1, 1);
-        int dowForLastDoM = lastDoMDateTime.getDayOfWeek();//1-7
+        int lastDoM = CalendarArithmetic.lengthOfMonth(year, month);
+        int dowForLastDoM = CalendarArithmetic.dayOfWeek(year, month, lastDoM);//1-7
         int requiredDoW = ConstantsMapper.weekDayMapping(mondayDoWValue, ConstantsMapper.JODATIME_WEEK_DAY, on.getTime().getValue());//to normalize to joda-time value
         int dowDiff = dowForLastDoM - requiredDoW;
 
         if(dowDiff==0){
-            return lastDoMDateTime.dayOfMonth().get();
+            return lastDoM;
         }
         if(dowDiff<0){
-            return lastDoMDateTime.minusDays(dowForLastDoM+(7-requiredDoW)).dayOfMonth().get();
+            return lastDoM-(dowForLastDoM+(7-requiredDoW));
         }
         if(dowDiff>0){
-            return lastDoMDateTime.minusDays(dowDiff).dayOfMonth().get();
+            return lastDoM-dowDiff;
         }
         throw new NoSuchValueException();
     }
@@ -145,7 +144,7 @@ class OnDayOfWeekValueGenerator extends FieldValueGenerator {
      */
 	private int generateNoneValues(On on, int year, int month, int reference) {
 		// the day of week the first of the month is on
-		int dowForFirstDoM = new DateTime(year, month, 1, 1, 1).getDayOfWeek();// 1-7
+		int dowForFirstDoM = CalendarArithmetic.dayOfWeek(year, month, 1);// 1-7
 		// the day of week we need, normalize to jodatime
 		int requiredDoW = ConstantsMapper.weekDayMapping(mondayDoWValue, ConstantsMapper.JODATIME_WEEK_DAY, on.getTime().getValue());
 		// the first day of the month
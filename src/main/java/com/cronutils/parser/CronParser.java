@@ -1,17 +1,30 @@
 package com.cronutils.parser;
 
 import com.cronutils.model.Cron;
+import com.cronutils.model.definition.CronConstraint;
 import com.cronutils.model.definition.CronDefinition;
+import com.cronutils.model.definition.DayOfWeekOrDayOfMonthConstraint;
 import com.cronutils.model.field.CronField;
+import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.field.expression.FieldExpression;
+import com.cronutils.model.field.expression.visitor.ValidationFieldExpressionVisitor;
 import com.cronutils.model.field.definition.FieldDefinition;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import org.apache.commons.lang3.StringUtils;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.apache.commons.lang3.Validate;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /*
  * Copyright 2014 jmrozanec
@@ -27,11 +40,17 @@ import java.util.Map;
  */
 
 /**
- * Parser for cron expressions
+ * Parser for cron expressions.
+ * May keep a bounded, thread safe cache of parsed crons, keyed by the whitespace normalized expression:
+ * since Cron instances are not modified once validated, same instance is returned for equivalent strings.
  */
 public class CronParser {
+    private static final int MIN_BULK_CHUNK_SIZE = 256;
+    private static final CacheStats NO_STATS = new CacheStats(0, 0, 0, 0, 0, 0);
     private CronDefinition cronDefinition;
     private Map<Integer, List<CronParserField>> expressions;
+    private Map<CronFieldName, ValidationFieldExpressionVisitor> visitors;
+    private Cache<Key, Cron> cache;
 
     /**
      * Constructor
@@ -40,10 +59,24 @@ public class CronParser {
      */
     public CronParser(CronDefinition cronDefinition) {
         expressions = Maps.newHashMap();
+        visitors = Maps.newHashMap();
         this.cronDefinition = Validate.notNull(cronDefinition, "CronDefinition must not be null");
         buildPossibleExpressions(cronDefinition);
     }
 
+    /**
+     * Constructor for a parser caching parsed crons.
+     * When full, least recently used entries are evicted. Expressions failing to parse are not cached.
+     * @param cronDefinition - cronDefinition of cron expressions to be parsed
+     *                   if null, a NullPointerException will be raised.
+     * @param maximumCacheSize - maximum amount of cached crons. Must not be negative.
+     */
+    public CronParser(CronDefinition cronDefinition, long maximumCacheSize) {
+        this(cronDefinition);
+        Validate.isTrue(maximumCacheSize >= 0, "Maximum cache size must not be negative");
+        this.cache = CacheBuilder.newBuilder().maximumSize(maximumCacheSize).recordStats().build();
+    }
+
     /**
      * Build possible cron expressions from definitions.
      * One is built for sure. A second one may be build if last field is optional.
@@ -53,6 +86,8 @@ public class CronParser {
         List<CronParserField> expression = new ArrayList<CronParserField>();
         for(FieldDefinition fieldDefinition : cronDefinition.getFieldDefinitions()){
             expression.add(new CronParserField(fieldDefinition.getFieldName(), fieldDefinition.getConstraints()));
+            visitors.put(fieldDefinition.getFieldName(),
+                    new ValidationFieldExpressionVisitor(fieldDefinition.getConstraints(), cronDefinition.isStrictRanges()));
         }
         Collections.sort(expression, CronParserField.createFieldTypeComparator());
         expressions.put(expression.size(), expression);
@@ -72,14 +107,241 @@ public class CronParser {
      * @throws java.lang.IllegalArgumentException if expression does not match cron definition
      */
     public Cron parse(String expression) {
+        return parse(expression, null);
+    }
+
+    /**
+     * Parse string with cron expression, resolving hashed (H) values from given key.
+     * Same expression and key always resolve to same values,
+     * while different keys spread values over the field range (ex.: H * * * * for many jobs).
+     * @param expression - cron expression, never null
+     * @param hashKey - key from which hashed values are derived (ex.: a job name); null if hashed values are not allowed
+     * @return Cron instance, corresponding to cron expression received
+     * @throws java.lang.IllegalArgumentException if expression does not match cron definition
+     */
+    public Cron parse(final String expression, final String hashKey) {
         Validate.notNull(expression, "Expression must not be null");
-        expression = expression.replaceAll("\\s+", " ").trim();
-        if (StringUtils.isEmpty(expression)) {
+        if (cache == null) {
+            return parseUncached(expression, hashKey);
+        }
+        try {
+            return cache.get(new Key(normalize(expression), hashKey), new Callable<Cron>() {
+                @Override
+                public Cron call() throws Exception {
+                    return parseUncached(expression, hashKey);
+                }
+            });
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Parse and validate many expressions, collecting failures instead of throwing on the first invalid one.
+     * Each expression is checked with validate(expression): a Cron is only built for valid ones.
+     * @param expressions - cron expressions. If null, a NullPointerException will be raised.
+     * @return results, in same order as given expressions; never null.
+     */
+    public List<ParseResult> parseAll(List<String> expressions) {
+        Validate.notNull(expressions, "Expressions must not be null");
+        ParseResult[] results = new ParseResult[expressions.size()];
+        parseAll(expressions, results, 0, results.length);
+        return Lists.newArrayList(results);
+    }
+
+    /**
+     * Parse and validate many expressions, collecting failures instead of throwing on the first invalid one.
+     * Each expression is checked with validate(expression): a Cron is only built for valid ones.
+     * Work is split in chunks, run on given executor service.
+     * @param expressions - cron expressions. If null, a NullPointerException will be raised.
+     * @param executorService - runs chunks of work. If null, a NullPointerException will be raised.
+     * @return results, in same order as given expressions; never null.
+     */
+    public List<ParseResult> parseAll(final List<String> expressions, ExecutorService executorService) {
+        Validate.notNull(expressions, "Expressions must not be null");
+        Validate.notNull(executorService, "ExecutorService must not be null");
+        final ParseResult[] results = new ParseResult[expressions.size()];
+        int chunkSize = Math.max(MIN_BULK_CHUNK_SIZE, results.length / Runtime.getRuntime().availableProcessors() + 1);
+        List<Future<?>> chunks = Lists.newArrayList();
+        for (int from = 0; from < results.length; from += chunkSize) {
+            final int chunkFrom = from;
+            final int chunkTo = Math.min(results.length, from + chunkSize);
+            chunks.add(executorService.submit(new Runnable() {
+                @Override
+                public void run() {
+                    parseAll(expressions, results, chunkFrom, chunkTo);
+                }
+            }));
+        }
+        try {
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for parse results", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return Lists.newArrayList(results);
+    }
+
+    /**
+     * Fields are parsed once: the Cron is assembled from the fields built while validating.
+     */
+    private void parseAll(List<String> expressions, ParseResult[] results, int from, int to) {
+        for (int j = from; j < to; j++) {
+            String expression = expressions.get(j);
+            if (expression == null) {
+                results[j] = ParseResult.failure(j, null, "Expression must not be null");
+                continue;
+            }
+            List<CronField> fields = new ArrayList<CronField>();
+            ValidationResult validation = validate(expression, null, fields);
+            if (validation.isValid()) {
+                results[j] = ParseResult.success(j, expression, cached(expression, new Cron(cronDefinition, fields)));
+            } else {
+                results[j] = ParseResult.failure(j, expression, validation.getReason());
+            }
+        }
+    }
+
+    /**
+     * @return hit, miss and eviction statistics of the parse cache; all zero if crons are not cached.
+     */
+    public CacheStats cacheStats() {
+        return cache == null ? NO_STATS : cache.stats();
+    }
+
+    /**
+     * @return approximate amount of cached crons; zero if crons are not cached.
+     */
+    public long cacheSize() {
+        return cache == null ? 0 : cache.size();
+    }
+
+    /**
+     * Checks if given expression would be parsed, without throwing exceptions.
+     * Fields are parsed and checked as parse(expression) does, so problems have the same description.
+     * Intended for frequent checks of mostly invalid input, such as expressions being typed.
+     * @param expression - cron expression; may be null
+     * @return ValidationResult instance, never null
+     */
+    public ValidationResult validate(String expression) {
+        return validate(expression, null, new ArrayList<CronField>());
+    }
+
+    /**
+     * Checks if given expression would be parsed by parse(expression, hashKey), without throwing exceptions.
+     * @param expression - cron expression; may be null
+     * @param hashKey - key from which hashed (H) values are derived; null if hashed values are not allowed
+     * @return ValidationResult instance, never null
+     */
+    public ValidationResult validate(String expression, String hashKey) {
+        return validate(expression, hashKey, new ArrayList<CronField>());
+    }
+
+    /**
+     * @param results - receives parsed fields, in cron definition order; complete only if expression is valid
+     */
+    private ValidationResult validate(String expression, String hashKey, List<CronField> results) {
+        if (expression == null) {
+            return ValidationResult.invalid(-1, null, "Expression must not be null");
+        }
+        int expressionLength = CronTokenizer.countTokens(expression);
+        if (expressionLength == 0) {
+            return ValidationResult.invalid(-1, null, "Empty expression!");
+        }
+        List<CronParserField> fields = expressions.get(expressionLength);
+        if (fields == null) {
+            return ValidationResult.invalid(-1, null, String.format("Cron expression contains %s parts but we expect one of %s",
+                    expressionLength, expressions.keySet()));
+        }
+        int[] positions = new int[fields.size()];
+        CronTokenizer tokenizer = new CronTokenizer(expression);
+        FieldParser.Problem problem = new FieldParser.Problem();
+        for (int j = 0; j < fields.size(); j++) {
+            String token = tokenizer.next();
+            positions[j] = tokenizer.start();
+            CronField result = fields.get(j).parse(token, positions[j], hashKey, problem);
+            if (result == null) {
+                return ValidationResult.invalid(problem.getPosition(), fields.get(j).getField(), problem.getReason());
+            }
+            results.add(result);
+        }
+        for (int j = 0; j < fields.size(); j++) {
+            CronField result = results.get(j);
+            String reason = visitors.get(result.getField()).check(result.getExpression());
+            if (reason != null) {
+                return ValidationResult.invalid(positions[j], result.getField(), reason);
+            }
+        }
+        for (CronConstraint constraint : cronDefinition.getCronConstraints()) {
+            ValidationResult result = validate(constraint, results, positions);
+            if (result != null) {
+                return result;
+            }
+        }
+        return ValidationResult.valid();
+    }
+
+    /**
+     * Checks day of month and day of week constraint on parsed fields, reporting the day of week field;
+     * other constraints are checked on a Cron built from parsed fields.
+     * @return null if fields satisfy given constraint, ValidationResult describing the problem otherwise
+     */
+    private ValidationResult validate(CronConstraint constraint, List<CronField> fields, int[] positions) {
+        if (constraint instanceof DayOfWeekOrDayOfMonthConstraint) {
+            FieldExpression dayOfMonth = null;
+            FieldExpression dayOfWeek = null;
+            int position = -1;
+            for (int j = 0; j < fields.size(); j++) {
+                if (fields.get(j).getField() == CronFieldName.DAY_OF_MONTH) {
+                    dayOfMonth = fields.get(j).getExpression();
+                }
+                if (fields.get(j).getField() == CronFieldName.DAY_OF_WEEK) {
+                    dayOfWeek = fields.get(j).getExpression();
+                    position = positions[j];
+                }
+            }
+            if (dayOfMonth != null && dayOfWeek != null) {
+                if (((DayOfWeekOrDayOfMonthConstraint) constraint).validate(dayOfMonth, dayOfWeek)) {
+                    return null;
+                }
+                return ValidationResult.invalid(position, CronFieldName.DAY_OF_WEEK, constraint.getDescription());
+            }
+        }
+        Cron cron = new Cron(cronDefinition, fields);
+        if (constraint.validate(cron)) {
+            return null;
+        }
+        return ValidationResult.invalid(-1, null, String.format("Invalid cron expression: %s. %s", cron.asString(), constraint.getDescription()));
+    }
+
+    /**
+     * @return instance already cached for given expression if any, given cron otherwise; caches given cron if absent
+     */
+    private Cron cached(String expression, Cron cron) {
+        if (cache == null) {
+            return cron;
+        }
+        Cron previous = cache.asMap().putIfAbsent(new Key(normalize(expression), null), cron);
+        return previous == null ? cron : previous;
+    }
+
+    private Cron parseUncached(String expression, String hashKey) {
+        int expressionLength = CronTokenizer.countTokens(expression);
+        if (expressionLength == 0) {
             throw new IllegalArgumentException("Empty expression!");
         }
-        expression = expression.toUpperCase();
-        String[] expressionParts = expression.split(" ");
-        int expressionLength = expressionParts.length;
         if(!expressions.containsKey(expressionLength)){
             throw new IllegalArgumentException(
                     String.format("Cron expression contains %s parts but we expect one of %s",
@@ -87,14 +349,64 @@ public class CronParser {
                     )
             );
         }
-        List<CronField> results = new ArrayList<CronField>();
-        List<CronParserField> fields = expressions.get(expressionLength);
-        CronParserField field;
-        for (int j = 0; j < fields.size(); j++) {
-            field = fields.get(j);
-            results.add(field.parse(expressionParts[j]));
+        return build(expression, hashKey, expressions.get(expressionLength)).validate();
+    }
+
+    /**
+     * Builds a Cron from an expression with a supported amount of fields, without validating it.
+     */
+    private Cron build(String expression, String hashKey, List<CronParserField> fields) {
+        List<CronField> results = new ArrayList<CronField>(fields.size());
+        CronTokenizer tokenizer = new CronTokenizer(expression);
+        for (CronParserField field : fields) {
+            String token = tokenizer.next();
+            results.add(hashKey == null ? field.parse(token) : field.parse(token, hashKey));
         }
-        return new Cron(cronDefinition, results).validate();
+        return new Cron(cronDefinition, results);
     }
-}
 
+    /**
+     * Fields in upper case, separated by a single space, as they are seen by field parsers.
+     * @param expression - cron expression
+     * @return normalized expression
+     */
+    private static String normalize(String expression) {
+        CronTokenizer tokenizer = new CronTokenizer(expression);
+        StringBuilder builder = new StringBuilder(expression.length());
+        while (tokenizer.hasNext()) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(tokenizer.next());
+        }
+        return builder.toString();
+    }
+
+    private static final class Key {
+        private final String expression;
+        private final String hashKey;
+
+        private Key(String expression, String hashKey) {
+            this.expression = expression;
+            this.hashKey = hashKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return expression.equals(key.expression)
+                    && (hashKey == null ? key.hashKey == null : hashKey.equals(key.hashKey));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * expression.hashCode() + (hashKey == null ? 0 : hashKey.hashCode());
+        }
+    }
+}
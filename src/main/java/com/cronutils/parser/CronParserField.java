@@ -15,6 +15,9 @@ package com.cronutils.parser;
 import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.CronFieldName;
 import com.cronutils.model.field.constraint.FieldConstraints;
+import com.cronutils.model.field.expression.FieldExpression;
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hashing;
 import org.apache.commons.lang3.Validate;
 
 import java.util.Comparator;
@@ -34,7 +37,7 @@ public class CronParserField {
     public CronParserField(CronFieldName fieldName, FieldConstraints constraints) {
         this.field = Validate.notNull(fieldName, "CronFieldName must not be null");
         this.constraints = Validate.notNull(constraints, "FieldConstraints must not be null");
-        this.parser = new FieldParser(constraints);
+        this.parser = new FieldParser(fieldName, constraints);
     }
 
     /**
@@ -55,6 +58,37 @@ public class CronParserField {
         return new CronField(field, parser.parse(expression), constraints);
     }
 
+    /**
+     * Parses a String cron expression, resolving hashed (H) values from given key.
+     * Each field hashes the key on its own, so that values are not correlated between fields.
+     * @param expression - cron expression
+     * @param hashKey - key from which hashed values are derived (ex.: a job name). If null, a NullPointerException will be raised.
+     * @return parse result as CronFieldParseResult instance - never null.
+     * May throw a RuntimeException if cron expression is bad.
+     */
+    public CronField parse(String expression, String hashKey) {
+        Validate.notNull(hashKey, "Hash key must not be null");
+        return new CronField(field, parser.parse(expression, hash(hashKey)), constraints);
+    }
+
+    /**
+     * Parses a field of a cron expression without throwing exceptions.
+     * @param expression - field expression
+     * @param offset - index of the first char of the field in the cron expression
+     * @param hashKey - key from which hashed (H) values are derived; null if hashed values are not allowed
+     * @param problem - receives the first problem found, with its position in the cron expression
+     * @return parse result as CronField instance; null if expression is invalid
+     */
+    CronField parse(String expression, int offset, String hashKey, FieldParser.Problem problem) {
+        int hash = hashKey == null ? FieldParser.NO_HASH : hash(hashKey);
+        FieldExpression fieldExpression = parser.parse(expression, offset, hash, problem);
+        return fieldExpression == null ? null : new CronField(field, fieldExpression, constraints);
+    }
+
+    private int hash(String hashKey) {
+        return Hashing.murmur3_32(field.getOrder()).hashString(hashKey, Charsets.UTF_8).asInt() & Integer.MAX_VALUE;
+    }
+
     /**
      * Create a Comparator that compares CronField instances using CronFieldName value.
      * @return Comparator for CronField instance, never null.
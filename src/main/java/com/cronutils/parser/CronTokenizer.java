@@ -0,0 +1,90 @@
+package com.cronutils.parser;
+
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Splits a cron expression into field tokens in a single pass, without regular expressions.
+ * Tokens are separated by any amount of whitespace and are provided in upper case;
+ * a token is only copied once, while being read.
+ */
+final class CronTokenizer {
+    private final CharSequence expression;
+    private int position;
+    private int start = -1;
+
+    CronTokenizer(CharSequence expression) {
+        this.expression = expression;
+    }
+
+    /**
+     * @param expression - cron expression
+     * @return amount of whitespace separated tokens in given expression
+     */
+    static int countTokens(CharSequence expression) {
+        int count = 0;
+        boolean inToken = false;
+        for (int j = 0; j < expression.length(); j++) {
+            boolean whitespace = isWhitespace(expression.charAt(j));
+            if (!whitespace && !inToken) {
+                count++;
+            }
+            inToken = !whitespace;
+        }
+        return count;
+    }
+
+    boolean hasNext() {
+        while (position < expression.length() && isWhitespace(expression.charAt(position))) {
+            position++;
+        }
+        return position < expression.length();
+    }
+
+    /**
+     * @return next token, in upper case; null if there are no more tokens
+     */
+    String next() {
+        if (!hasNext()) {
+            return null;
+        }
+        start = position;
+        boolean lowerCase = false;
+        while (position < expression.length() && !isWhitespace(expression.charAt(position))) {
+            lowerCase |= Character.isLowerCase(expression.charAt(position));
+            position++;
+        }
+        if (!lowerCase) {
+            return expression.subSequence(start, position).toString();
+        }
+        char[] token = new char[position - start];
+        for (int j = 0; j < token.length; j++) {
+            token[j] = Character.toUpperCase(expression.charAt(start + j));
+        }
+        return new String(token);
+    }
+
+    /**
+     * @return index of the first char of the token last returned by next(); -1 if no token was returned yet
+     */
+    int start() {
+        return start;
+    }
+
+    /**
+     * Same characters as matched by \s in regular expressions.
+     */
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
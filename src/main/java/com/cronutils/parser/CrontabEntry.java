@@ -0,0 +1,79 @@
+package com.cronutils.parser;
+
+import com.cronutils.model.Cron;
+
+import java.util.Map;
+
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Job read from a crontab file: schedule, command and environment assignments preceding it.
+ */
+public class CrontabEntry {
+    private final int lineNumber;
+    private final Cron cron;
+    private final String macro;
+    private final String command;
+    private final Map<String, String> environment;
+
+    CrontabEntry(int lineNumber, Cron cron, String macro, String command, Map<String, String> environment) {
+        this.lineNumber = lineNumber;
+        this.cron = cron;
+        this.macro = macro;
+        this.command = command;
+        this.environment = environment;
+    }
+
+    /**
+     * @return line of the entry in the crontab, starting at 1
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * @return Cron instance; null for @reboot entries
+     */
+    public Cron getCron() {
+        return cron;
+    }
+
+    /**
+     * @return macro used to schedule the entry (ex.: @daily); null if a cron expression was given
+     */
+    public String getMacro() {
+        return macro;
+    }
+
+    /**
+     * @return true if entry runs once, at startup
+     */
+    public boolean isReboot() {
+        return cron == null;
+    }
+
+    /**
+     * @return command, as written in the crontab (% signs are not interpreted)
+     */
+    public String getCommand() {
+        return command;
+    }
+
+    /**
+     * @return unmodifiable map of environment variables assigned before this entry, never null
+     */
+    public Map<String, String> getEnvironment() {
+        return environment;
+    }
+}
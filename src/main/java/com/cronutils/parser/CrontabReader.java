@@ -0,0 +1,367 @@
+package com.cronutils.parser;
+
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import org.apache.commons.lang3.Validate;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Streams entries of a user crontab file (see crontab(5)).
+ * Blank lines and comments are skipped, environment assignments (NAME = value) are collected
+ * and each job line, either five cron fields or a macro such as @daily followed by a command, becomes a CrontabEntry.
+ * Lines are scanned in a reusable buffer: only expressions and commands are copied into strings.
+ * Entries are parsed with the CronType.UNIX definition unless another parser is given.
+ * Instances are not thread safe.
+ */
+public class CrontabReader implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+    private static final long DEFAULT_CACHE_SIZE = 1024;
+    private static final String REBOOT = "@reboot";
+    private static final Map<String, String> macros = ImmutableMap.<String, String>builder()
+            .put("@yearly", "0 0 1 1 *")
+            .put("@annually", "0 0 1 1 *")
+            .put("@monthly", "0 0 1 * *")
+            .put("@weekly", "0 0 * * 0")
+            .put("@daily", "0 0 * * *")
+            .put("@midnight", "0 0 * * *")
+            .put("@hourly", "0 * * * *")
+            .build();
+
+    private final Reader reader;
+    private final CronParser parser;
+    private char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+    private int lineStart;
+    private int lineEnd;
+    private int lineNumber;
+    private Map<String, String> environment = Collections.emptyMap();
+
+    /**
+     * Constructor. Expressions are parsed with the CronType.UNIX definition.
+     * @param reader - crontab contents. If null, a NullPointerException will be raised.
+     */
+    public CrontabReader(Reader reader) {
+        this(reader, new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX), DEFAULT_CACHE_SIZE));
+    }
+
+    /**
+     * Constructor
+     * @param reader - crontab contents. If null, a NullPointerException will be raised.
+     * @param parser - parser for five field expressions. If null, a NullPointerException will be raised.
+     */
+    public CrontabReader(Reader reader, CronParser parser) {
+        this.reader = Validate.notNull(reader, "Reader must not be null");
+        this.parser = Validate.notNull(parser, "CronParser must not be null");
+    }
+
+    /**
+     * Opens given UTF-8 crontab file, mapped into memory.
+     * @param file - crontab file. If null, a NullPointerException will be raised.
+     * @return CrontabReader instance, to be closed by the caller
+     * @throws IOException if file cannot be read
+     */
+    public static CrontabReader open(File file) throws IOException {
+        return open(file, Charsets.UTF_8);
+    }
+
+    /**
+     * Opens given crontab file, mapped into memory.
+     * @param file - crontab file. If null, a NullPointerException will be raised.
+     * @param charset - file encoding. If null, a NullPointerException will be raised.
+     * @return CrontabReader instance, to be closed by the caller
+     * @throws IOException if file cannot be read
+     */
+    public static CrontabReader open(File file, Charset charset) throws IOException {
+        Validate.notNull(file, "File must not be null");
+        Validate.notNull(charset, "Charset must not be null");
+        FileChannel channel = new FileInputStream(file).getChannel();
+        try {
+            Validate.isTrue(channel.size() <= Integer.MAX_VALUE, "File must not exceed %s bytes", Integer.MAX_VALUE);
+            return new CrontabReader(new MappedReader(channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), charset));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        } catch (RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads next job.
+     * @return CrontabEntry instance; null if there are no more entries
+     * @throws IOException if contents cannot be read
+     * @throws IllegalArgumentException if a line is neither a comment, an environment assignment nor a valid job
+     */
+    public CrontabEntry next() throws IOException {
+        while (nextLine()) {
+            CrontabEntry entry = parseLine();
+            if (entry != null) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return unmodifiable map of environment variables assigned so far, never null
+     */
+    public Map<String, String> getEnvironment() {
+        return environment;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Locates next line in the buffer, reading more contents if required.
+     * @return true if a line was found, false at end of input
+     */
+    private boolean nextLine() throws IOException {
+        int scan = position;
+        while (true) {
+            for (; scan < limit; scan++) {
+                if (buffer[scan] == '\n') {
+                    startLine(scan, scan + 1);
+                    return true;
+                }
+            }
+            if (endOfInput) {
+                if (position < limit) {
+                    startLine(limit, limit);
+                    return true;
+                }
+                return false;
+            }
+            if (position > 0) {
+                System.arraycopy(buffer, position, buffer, 0, limit - position);
+                scan -= position;
+                limit -= position;
+                position = 0;
+            }
+            //keep room for a surrogate pair, which some readers cannot split
+            if (buffer.length - limit < 2) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            int read = reader.read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                endOfInput = true;
+            } else {
+                limit += read;
+            }
+        }
+    }
+
+    private void startLine(int end, int next) {
+        lineStart = position;
+        lineEnd = end;
+        position = next;
+        lineNumber++;
+    }
+
+    private CrontabEntry parseLine() {
+        int start = skipWhitespace(lineStart, lineEnd);
+        int end = lineEnd;
+        while (end > start && CronTokenizer.isWhitespace(buffer[end - 1])) {
+            end--;
+        }
+        if (start == end || buffer[start] == '#') {
+            return null;
+        }
+        char first = buffer[start];
+        if (first == '@') {
+            return parseMacro(start, end);
+        }
+        if (first == '*' || (first >= '0' && first <= '9')) {
+            return parseJob(start, end);
+        }
+        parseAssignment(start, end);
+        return null;
+    }
+
+    private CrontabEntry parseMacro(int start, int end) {
+        int macroEnd = skipToken(start, end);
+        String macro = new String(buffer, start, macroEnd - start);
+        String command = command(macroEnd, end);
+        String key = macro.toLowerCase(Locale.ENGLISH);
+        if (REBOOT.equals(key)) {
+            return new CrontabEntry(lineNumber, null, macro, command, environment);
+        }
+        String expression = macros.get(key);
+        if (expression == null) {
+            throw invalidLine(String.format("Unknown macro %s", macro), null);
+        }
+        return new CrontabEntry(lineNumber, parse(expression), macro, command, environment);
+    }
+
+    private CrontabEntry parseJob(int start, int end) {
+        int expressionEnd = start;
+        for (int field = 0; field < 5; field++) {
+            expressionEnd = skipToken(skipWhitespace(expressionEnd, end), end);
+        }
+        Cron cron = parse(new String(buffer, start, expressionEnd - start));
+        return new CrontabEntry(lineNumber, cron, null, command(expressionEnd, end), environment);
+    }
+
+    private void parseAssignment(int start, int end) {
+        int equals = start;
+        while (equals < end && buffer[equals] != '=') {
+            equals++;
+        }
+        if (equals == end) {
+            throw invalidLine("Expected a job or an environment assignment", null);
+        }
+        String name = unquote(start, equals);
+        if (name.isEmpty()) {
+            throw invalidLine("Missing environment variable name", null);
+        }
+        Map<String, String> updated = Maps.newLinkedHashMap(environment);
+        updated.put(name, unquote(equals + 1, end));
+        environment = Collections.unmodifiableMap(updated);
+    }
+
+    private Cron parse(String expression) {
+        try {
+            return parser.parse(expression);
+        } catch (IllegalArgumentException e) {
+            throw invalidLine(e.getMessage(), e);
+        }
+    }
+
+    private String command(int from, int end) {
+        int start = skipWhitespace(from, end);
+        if (start == end) {
+            throw invalidLine("Missing command", null);
+        }
+        return new String(buffer, start, end - start);
+    }
+
+    /**
+     * @return trimmed text between given positions, without enclosing single or double quotes
+     */
+    private String unquote(int from, int to) {
+        int start = skipWhitespace(from, to);
+        int end = to;
+        while (end > start && CronTokenizer.isWhitespace(buffer[end - 1])) {
+            end--;
+        }
+        if (end - start >= 2 && (buffer[start] == '"' || buffer[start] == '\'') && buffer[end - 1] == buffer[start]) {
+            start++;
+            end--;
+        }
+        return new String(buffer, start, end - start);
+    }
+
+    private int skipWhitespace(int from, int end) {
+        int index = from;
+        while (index < end && CronTokenizer.isWhitespace(buffer[index])) {
+            index++;
+        }
+        return index;
+    }
+
+    private int skipToken(int from, int end) {
+        int index = from;
+        while (index < end && !CronTokenizer.isWhitespace(buffer[index])) {
+            index++;
+        }
+        return index;
+    }
+
+    private IllegalArgumentException invalidLine(String reason, Exception cause) {
+        return new IllegalArgumentException(String.format("Invalid crontab line %s: %s", lineNumber, reason), cause);
+    }
+
+    /**
+     * Decodes a memory mapped file on demand.
+     */
+    private static final class MappedReader extends Reader {
+        private final FileChannel channel;
+        private final ByteBuffer bytes;
+        private final CharsetDecoder decoder;
+        /**
+         * Chars decoded when requested length could not hold them, such as a surrogate pair in a single char.
+         */
+        private final CharBuffer pending = CharBuffer.wrap(new char[2], 0, 0);
+        private boolean flushed;
+
+        private MappedReader(FileChannel channel, ByteBuffer bytes, Charset charset) {
+            this.channel = channel;
+            this.bytes = bytes;
+            this.decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        @Override
+        public int read(char[] chars, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            while (!pending.hasRemaining()) {
+                if (flushed) {
+                    return -1;
+                }
+                CharBuffer out = CharBuffer.wrap(chars, offset, length);
+                decode(out);
+                if (out.position() > offset) {
+                    return out.position() - offset;
+                }
+                pending.clear();
+                decode(pending);
+                pending.flip();
+            }
+            int read = Math.min(length, pending.remaining());
+            pending.get(chars, offset, read);
+            return read;
+        }
+
+        private void decode(CharBuffer out) {
+            decoder.decode(bytes, out, true);
+            if (!bytes.hasRemaining() && decoder.flush(out).isUnderflow()) {
+                flushed = true;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -12,6 +12,7 @@
  */
 package com.cronutils.parser;
 
+import com.cronutils.model.field.CronFieldName;
 import com.cronutils.model.field.constraint.FieldConstraints;
 import com.cronutils.model.field.expression.*;
 import com.cronutils.model.field.value.FieldValue;
@@ -19,195 +20,419 @@ import com.cronutils.model.field.value.IntegerFieldValue;
 import com.cronutils.model.field.value.SpecialChar;
 import com.cronutils.model.field.value.SpecialCharFieldValue;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
-import java.util.regex.Pattern;
-
 /**
  * Parses a field from a cron expression.
+ * Problems are reported with the position of the offending part, so that expressions can be checked
+ * without exceptions: parse(expression, hash) throws with the same description.
  */
 public class FieldParser {
+    /**
+     * Hash used when no key was supplied: hashed (H) values are rejected.
+     */
+    public static final int NO_HASH = -1;
+    /**
+     * Highest day selected by H without range in the day of month field, as in Jenkins: present in every month.
+     */
+    private static final int HASHED_DAY_OF_MONTH_END = 28;
+    /**
+     * Returned when a string does not represent an int.
+     */
+    private static final long NOT_AN_INT = Long.MIN_VALUE;
+    private static final String NOT_AN_INTEGER = "Invalid value. Expected some integer, found %s";
     private final char[] specialCharsMinusStar = new char[]{'/', '-', ','};//universally supported
-    private Pattern lPattern = Pattern.compile("[0-9]L", Pattern.CASE_INSENSITIVE);
-    private Pattern wPattern = Pattern.compile("[0-9]W", Pattern.CASE_INSENSITIVE);
+    private CronFieldName field;
     private FieldConstraints fieldConstraints;
+    /**
+     * Shares equal On, Between and Every instances among crons parsed for this field.
+     */
+    private final Interner<FieldExpression> interner = Interners.newWeakInterner();
 
     public FieldParser(FieldConstraints constraints) {
         this.fieldConstraints = Validate.notNull(constraints, "FieldConstraints must not be null");
     }
 
+    /**
+     * Constructor
+     * @param field - parsed field; used to apply field specific rules. If null, a NullPointerException will be raised.
+     * @param constraints - constraints for parsed field. If null, a NullPointerException will be raised.
+     */
+    public FieldParser(CronFieldName field, FieldConstraints constraints) {
+        this(constraints);
+        this.field = Validate.notNull(field, "CronFieldName must not be null");
+    }
+
     /**
      * Parse given expression for a single cron field
      * @param expression - String
      * @return CronFieldExpression object that with interpretation of given String parameter
      */
     public FieldExpression parse(String expression) {
+        return parse(expression, NO_HASH);
+    }
+
+    /**
+     * Parse given expression for a single cron field, resolving hashed (H) values with given hash
+     * @param expression - String
+     * @param hash - non negative hash of some caller supplied key; NO_HASH if there is none
+     * @return CronFieldExpression object that with interpretation of given String parameter
+     */
+    public FieldExpression parse(String expression, int hash) {
+        Problem problem = new Problem();
+        FieldExpression fieldExpression = parse(expression, 0, hash, problem);
+        if (fieldExpression == null) {
+            throw new IllegalArgumentException(problem.getReason());
+        }
+        return fieldExpression;
+    }
+
+    /**
+     * Parse given expression for a single cron field, without throwing exceptions.
+     * @param expression - String
+     * @param offset - index of the first char of the field in the cron expression; reported positions are relative to it
+     * @param hash - non negative hash of some caller supplied key; NO_HASH if there is none
+     * @param problem - receives the first problem found
+     * @return CronFieldExpression object; null if expression is invalid
+     */
+    FieldExpression parse(String expression, int offset, int hash, Problem problem) {
+        FieldExpression fieldExpression = parseExpression(expression, offset, hash, problem);
+        if (fieldExpression instanceof On || fieldExpression instanceof Between || fieldExpression instanceof Every) {
+            return interner.intern(fieldExpression);
+        }
+        return fieldExpression;
+    }
+
+    private FieldExpression parseExpression(String expression, int offset, int hash, Problem problem) {
+        boolean hasComma = expression.indexOf(',') >= 0;
+        if (!hasComma && !expression.isEmpty() && Character.toUpperCase(expression.charAt(0)) == 'H') {
+            return parseHashed(expression, offset, hash, problem);
+        }
         if (!StringUtils.containsAny(expression, specialCharsMinusStar)) {
             if ("*".equals(expression)) {//all crons support asterisk
-                return new Always();
+                return FieldExpressionFactory.always();
             } else {
                 if("?".equals(expression)){
-                    return new QuestionMark();
+                    return FieldExpressionFactory.questionMark();
                 }
-                return parseOn(expression);
+                return parseOn(expression, offset, problem);
             }
-        } else {
-            String[] array = expression.split(",");
-            if (array.length > 1) {
-                And and = new And();
-                for (String exp : array) {
-                    and.and(parse(exp));
+        }
+        //trailing separators are ignored, as String.split() would do
+        int andEnd = withoutTrailing(expression, ',');
+        if (hasComma && countParts(expression, ',', andEnd) > 1) {
+            And and = new And();
+            int from = 0;
+            for (int comma = expression.indexOf(',', from); from < andEnd; comma = expression.indexOf(',', from)) {
+                int to = comma < 0 || comma > andEnd ? andEnd : comma;
+                FieldExpression part = parse(expression.substring(from, to), offset + from, hash, problem);
+                if (part == null) {
+                    return null;
                 }
-                return and;
+                and.and(part);
+                from = to + 1;
+            }
+            return and;
+        }
+        int dash = expression.indexOf('-');
+        if (dash >= 0 && withoutTrailing(expression, '-') > dash) {
+            int nextDash = expression.indexOf('-', dash + 1);
+            return parseBetween(expression.substring(0, dash), offset,
+                    expression.substring(dash + 1, nextDash < 0 ? expression.length() : nextDash), offset + dash + 1, problem);
+        }
+        int everyEnd = withoutTrailing(expression, '/');
+        int parts = countParts(expression, '/', everyEnd);
+        if (parts == 2) {
+            int slash = expression.indexOf('/');
+            String start = expression.substring(0, slash).trim();
+            String value = expression.substring(slash + 1, everyEnd);
+            if ("*".equals(start) || "".equals(start)) {
+                long period = parseInt(value);
+                if (period == NOT_AN_INT) {
+                    return problem.fail(offset + slash + 1, String.format(NOT_AN_INTEGER, value));
+                }
+                return new Every(IntegerFieldValue.of((int) period));
             } else {
-                array = expression.split("-");
-                if (array.length > 1) {
-                    return parseBetween(array);
-                } else {
-                    String[] values = expression.split("/");
-                    if(values.length == 2) {
-                        String start = values[0];
-                        String value = values[1];
-                        if("*".equals(start.trim()) || "".equals(start.trim())){
-                            return new Every(new IntegerFieldValue(Integer.parseInt(value)));
-                        }else{
-                            return new Every(
-                                    new On(new IntegerFieldValue(Integer.parseInt(start))),
-                                    new IntegerFieldValue(Integer.parseInt(value))
-                            );
-                        }
-                    }else if(values.length == 1){
-                        throw new IllegalArgumentException("Missing steps for expression: " + expression);
-                    }else {
-                        throw new IllegalArgumentException("Invalid expression: " + expression);
-                    }
+                long time = parseInt(start);
+                if (time == NOT_AN_INT) {
+                    return problem.fail(offset, String.format(NOT_AN_INTEGER, start));
+                }
+                long period = parseInt(value);
+                if (period == NOT_AN_INT) {
+                    return problem.fail(offset + slash + 1, String.format(NOT_AN_INTEGER, value));
                 }
+                return new Every(new On(IntegerFieldValue.of((int) time)), IntegerFieldValue.of((int) period));
             }
+        } else if (parts == 1) {
+            return problem.fail(offset, "Missing steps for expression: " + expression);
+        } else {
+            return problem.fail(offset, "Invalid expression: " + expression);
         }
     }
 
-    @VisibleForTesting
-    FieldExpression parseBetween(String[]array){
-        if (array[1].contains("/")) {
-            String[] every = array[1].split("/");
-            return new Every(new Between(map(array[0]), map(every[0])), mapToIntegerFieldValue(every[1]));
-        } else {
-            return new Between(map(array[0]), map(array[1]));
+    /**
+     * @return index after the last char of given expression that is not given separator
+     */
+    private static int withoutTrailing(String expression, char separator) {
+        int end = expression.length();
+        while (end > 0 && expression.charAt(end - 1) == separator) {
+            end--;
         }
+        return end;
     }
 
-    @VisibleForTesting
-    On parseOn(String exp){
-        if("?".equals(exp)){
-            return parseOnWithQuestionMark(exp);
+    /**
+     * @return amount of parts in which separator splits the expression, up to given end
+     */
+    private static int countParts(String expression, char separator, int end) {
+        if (end == 0) {
+            return 0;
+        }
+        int parts = 1;
+        for (int j = 0; j < end; j++) {
+            if (expression.charAt(j) == separator) {
+                parts++;
+            }
+        }
+        return parts;
+    }
+
+    /**
+     * Parses H, H/n, H(a-b) or H(a-b)/n
+     */
+    private Hashed parseHashed(String exp, int offset, int hash, Problem problem){
+        int position = 1;
+        boolean rangeSpecified = position < exp.length() && exp.charAt(position) == '(';
+        IntegerFieldValue from = IntegerFieldValue.of(fieldConstraints.getStartRange());
+        IntegerFieldValue to = IntegerFieldValue.of(fieldConstraints.getEndRange());
+        if (!rangeSpecified && field == CronFieldName.DAY_OF_MONTH) {
+            to = IntegerFieldValue.of(Math.min(to.getValue(), HASHED_DAY_OF_MONTH_END));
+        }
+        if (!rangeSpecified) {
+            to = IntegerFieldValue.of(highestDistinctValue(from.getValue(), to.getValue()));
+        }
+        if (rangeSpecified) {
+            int dash = skipDigits(exp, position + 1);
+            int close = skipDigits(exp, dash + 1);
+            if (dash == position + 1 || dash >= exp.length() || exp.charAt(dash) != '-'
+                    || close == dash + 1 || close >= exp.length() || exp.charAt(close) != ')') {
+                return problem.fail(offset, String.format("Invalid hashed expression: %s", exp));
+            }
+            from = mapToIntegerFieldValue(exp.substring(position + 1, dash), offset + position + 1, problem);
+            if (from == null) {
+                return null;
+            }
+            to = mapToIntegerFieldValue(exp.substring(dash + 1, close), offset + dash + 1, problem);
+            if (to == null) {
+                return null;
+            }
+            position = close + 1;
+        }
+        IntegerFieldValue period = IntegerFieldValue.of(1);
+        if (position < exp.length()) {
+            int end = skipDigits(exp, position + 1);
+            if (exp.charAt(position) != '/' || end == position + 1 || end != exp.length()) {
+                return problem.fail(offset, String.format("Invalid hashed expression: %s", exp));
+            }
+            period = mapToIntegerFieldValue(exp.substring(position + 1), offset + position + 1, problem);
+            if (period == null) {
+                return null;
+            }
+        }
+        if (hash < 0) {
+            return problem.fail(offset, String.format("A hash key is required to resolve expression: %s", exp));
+        }
+        if (from.getValue() > to.getValue()) {
+            return problem.fail(offset, String.format("Invalid range! [%s,%s]", from, to));
+        }
+        if (period.getValue() < 1) {
+            return problem.fail(offset, String.format("Invalid period: %s", period));
+        }
+        return new Hashed(from, to, rangeSpecified, period, hash);
+    }
+
+    /**
+     * Highest value of given range that is not an alias of a lower one, so that hashed values are evenly spread.
+     * Ex.: if 7 is mapped to 0 in a 0-7 range, returns 6.
+     */
+    private int highestDistinctValue(int from, int to) {
+        int highest = to;
+        while (highest > from) {
+            Integer mapped = fieldConstraints.getIntMapping().get(highest);
+            if (mapped == null || mapped < from || mapped >= highest) {
+                break;
+            }
+            highest--;
+        }
+        return highest;
+    }
+
+    /**
+     * @return index of the first char that is not a digit, from given one
+     */
+    private static int skipDigits(String exp, int from) {
+        int position = from;
+        while (position < exp.length() && exp.charAt(position) >= '0' && exp.charAt(position) <= '9') {
+            position++;
+        }
+        return position;
+    }
+
+    private FieldExpression parseBetween(String from, int fromOffset, String to, int toOffset, Problem problem){
+        int slash = to.indexOf('/');
+        FieldValue start = map(from, fromOffset, problem);
+        if (start == null) {
+            return null;
+        }
+        FieldValue end = map(slash >= 0 ? to.substring(0, slash) : to, toOffset, problem);
+        if (end == null) {
+            return null;
+        }
+        if (slash >= 0) {
+            int nextSlash = to.indexOf('/', slash + 1);
+            IntegerFieldValue period = mapToIntegerFieldValue(
+                    to.substring(slash + 1, nextSlash < 0 ? to.length() : nextSlash), toOffset + slash + 1, problem);
+            if (period == null) {
+                return null;
+            }
+            return new Every(new Between(start, end), period);
+        } else {
+            return new Between(start, end);
         }
+    }
+
+    private On parseOn(String exp, int offset, Problem problem){
         if (exp.contains("#")) {
-            return parseOnWithHash(exp);
+            return parseOnWithHash(exp, offset, problem);
         }
         if (exp.contains("LW")) {
-            return parseOnWithLW(exp);
+            return parseOnWithLW(exp, offset, problem);
+        }
+        if (hasDigitFollowedBy(exp, 'L')||exp.equalsIgnoreCase("L")) {
+            return parseOnWithL(exp, offset, problem);
         }
-        if (lPattern.matcher(exp).find()||exp.equalsIgnoreCase("L")) {
-            return parseOnWithL(exp);
+        if (hasDigitFollowedBy(exp, 'W')) {
+            return parseOnWithW(exp, offset, problem);
         }
-        if (wPattern.matcher(exp).find()) {
-            return parseOnWithW(exp);
+        IntegerFieldValue time = mapToIntegerFieldValue(exp, offset, problem);
+        if (time == null) {
+            return null;
         }
         return new On(
-                mapToIntegerFieldValue(exp),
-                new SpecialCharFieldValue(SpecialChar.NONE),
-                new IntegerFieldValue(-1)
+                time,
+                SpecialCharFieldValue.of(SpecialChar.NONE),
+                IntegerFieldValue.of(-1)
         );
     }
 
-    @VisibleForTesting
-    On parseOnWithHash(String exp){
-        SpecialCharFieldValue specialChar = new SpecialCharFieldValue(SpecialChar.HASH);
-        String[] array = exp.split("#");
-        IntegerFieldValue nth = mapToIntegerFieldValue(array[1]);
-        if (array[0].isEmpty()) {
-            throw new IllegalArgumentException("Time should be specified!");
+    /**
+     * @return true if some digit in given expression is followed by given letter, in any case
+     */
+    private static boolean hasDigitFollowedBy(String exp, char letter) {
+        for (int j = 1; j < exp.length(); j++) {
+            char previous = exp.charAt(j - 1);
+            if (previous >= '0' && previous <= '9' && Character.toUpperCase(exp.charAt(j)) == letter) {
+                return true;
+            }
         }
-        return new On(mapToIntegerFieldValue(array[0]), specialChar, nth);
+        return false;
     }
 
-    @VisibleForTesting
-    On parseOnWithQuestionMark(String exp){
-        SpecialCharFieldValue specialChar = new SpecialCharFieldValue(SpecialChar.QUESTION_MARK);
-        exp = exp.replace("?", "");
-        if("".equals(exp)){
-            return new On(new IntegerFieldValue(-1), specialChar, new IntegerFieldValue(-1));
-        }else{
-            throw new IllegalArgumentException(String.format("Expected: '?', found: %s", exp));
+    private On parseOnWithHash(String exp, int offset, Problem problem){
+        SpecialCharFieldValue specialChar = SpecialCharFieldValue.of(SpecialChar.HASH);
+        int hash = exp.indexOf('#');
+        int nextHash = exp.indexOf('#', hash + 1);
+        IntegerFieldValue nth = mapToIntegerFieldValue(exp.substring(hash + 1, nextHash < 0 ? exp.length() : nextHash), offset + hash + 1, problem);
+        if (nth == null) {
+            return null;
+        }
+        if (hash == 0) {
+            return problem.fail(offset, "Time should be specified!");
         }
+        IntegerFieldValue time = mapToIntegerFieldValue(exp.substring(0, hash), offset, problem);
+        if (time == null) {
+            return null;
+        }
+        return new On(time, specialChar, nth);
     }
 
-    @VisibleForTesting
-    On parseOnWithLW(String exp){
-        SpecialCharFieldValue specialChar = new SpecialCharFieldValue(SpecialChar.LW);
-        exp = exp.replace("LW", "");
+    private On parseOnWithLW(String exp, int offset, Problem problem){
+        SpecialCharFieldValue specialChar = SpecialCharFieldValue.of(SpecialChar.LW);
+        exp = StringUtils.remove(exp, "LW");
         if("".equals(exp)){
-            return new On(new IntegerFieldValue(-1), specialChar, new IntegerFieldValue(-1));
+            return new On(IntegerFieldValue.of(-1), specialChar, IntegerFieldValue.of(-1));
         }else{
-            throw new IllegalArgumentException(String.format("Expected: LW, found: %s", exp));
+            return problem.fail(offset, String.format("Expected: LW, found: %s", exp));
         }
     }
 
-    @VisibleForTesting
-    On parseOnWithL(String exp){
-        SpecialCharFieldValue specialChar = new SpecialCharFieldValue(SpecialChar.L);
-        exp = exp.replace("L", "");
-        IntegerFieldValue time = new IntegerFieldValue(-1);
+    private On parseOnWithL(String exp, int offset, Problem problem){
+        SpecialCharFieldValue specialChar = SpecialCharFieldValue.of(SpecialChar.L);
+        exp = StringUtils.remove(exp, 'L');
+        IntegerFieldValue time = IntegerFieldValue.of(-1);
         if(!"".equals(exp)){
-            time = mapToIntegerFieldValue(exp);
+            time = mapToIntegerFieldValue(exp, offset, problem);
+            if (time == null) {
+                return null;
+            }
         }
-        return new On(time, specialChar, new IntegerFieldValue(-1));
+        return new On(time, specialChar, IntegerFieldValue.of(-1));
     }
 
-    @VisibleForTesting
-    On parseOnWithW(String exp){
+    private On parseOnWithW(String exp, int offset, Problem problem){
+        IntegerFieldValue time = mapToIntegerFieldValue(StringUtils.remove(exp, 'W'), offset, problem);
+        if (time == null) {
+            return null;
+        }
         return new On(
-                mapToIntegerFieldValue(exp.replace("W", "")),
-                new SpecialCharFieldValue(SpecialChar.W),
-                new IntegerFieldValue(-1)
+                time,
+                SpecialCharFieldValue.of(SpecialChar.W),
+                IntegerFieldValue.of(-1)
         );
     }
 
-    @VisibleForTesting
-    IntegerFieldValue mapToIntegerFieldValue(String string){
-        try{
-            return new IntegerFieldValue(intToInt(stringToInt(string)));
-        }catch (NumberFormatException e){
-            throw new IllegalArgumentException(String.format("Invalid value. Expected some integer, found %s", string));
+    /**
+     * @return mapped integer value; null if string does not represent an integer
+     */
+    private IntegerFieldValue mapToIntegerFieldValue(String string, int offset, Problem problem){
+        long value = stringToInt(string);
+        if (value == NOT_AN_INT) {
+            return problem.fail(offset, String.format(NOT_AN_INTEGER, string));
         }
+        return IntegerFieldValue.of(intToInt((int) value));
     }
 
-    @VisibleForTesting
-    FieldValue map(String string){
+    /**
+     * @return special char or integer value, without int mapping; null if string represents none of them
+     */
+    private FieldValue map(String string, int offset, Problem problem){
         for(SpecialChar sc : SpecialChar.values()){
             if(sc.toString().equals(string)){
-                return new SpecialCharFieldValue(sc);
+                return SpecialCharFieldValue.of(sc);
             }
         }
-        return new IntegerFieldValue(stringToInt(string));
+        long value = stringToInt(string);
+        if (value == NOT_AN_INT) {
+            return problem.fail(offset, String.format(NOT_AN_INTEGER, string));
+        }
+        return IntegerFieldValue.of((int) value);
     }
 
     /**
      * Maps string expression to integer.
      * If no mapping is found, will try to parse String as Integer
      * @param exp - expression to be mapped
-     * @return integer value for string expression
+     * @return integer value for string expression; NOT_AN_INT if there is none
      */
-    int stringToInt(String exp) {
+    @VisibleForTesting
+    long stringToInt(String exp) {
         if (fieldConstraints.getStringMapping().containsKey(exp)) {
             return fieldConstraints.getStringMapping().get(exp);
         } else {
-            try{
-                return Integer.parseInt(exp);
-            }catch (NumberFormatException e){
-                throw new IllegalArgumentException(e);
-            }
+            return parseInt(exp);
         }
     }
 
@@ -224,4 +449,67 @@ public class FieldParser {
         }
         return exp;
     }
-}
\ No newline at end of file
+
+    /**
+     * Parses a signed decimal integer with the same rules as Integer.parseInt(), without throwing exceptions.
+     * @return parsed value; NOT_AN_INT if string does not represent an int
+     */
+    private static long parseInt(String exp) {
+        int start = 0;
+        boolean negative = false;
+        if (!exp.isEmpty() && (exp.charAt(0) == '-' || exp.charAt(0) == '+')) {
+            negative = exp.charAt(0) == '-';
+            start = 1;
+        }
+        if (start == exp.length()) {
+            return NOT_AN_INT;
+        }
+        long value = 0;
+        for (int j = start; j < exp.length(); j++) {
+            int digit = Character.digit(exp.charAt(j), 10);
+            if (digit < 0) {
+                return NOT_AN_INT;
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                return NOT_AN_INT;
+            }
+        }
+        value = negative ? -value : value;
+        return value > Integer.MAX_VALUE ? NOT_AN_INT : value;
+    }
+
+    /**
+     * First problem found while parsing a field.
+     */
+    static final class Problem {
+        private int position = -1;
+        private String reason;
+
+        /**
+         * Records given problem, unless one was already found.
+         * @return null, so that parsing methods can return its result
+         */
+        <T> T fail(int position, String reason) {
+            if (this.reason == null) {
+                this.position = position;
+                this.reason = reason;
+            }
+            return null;
+        }
+
+        /**
+         * @return index of the first char of the offending part in the cron expression; -1 if no problem was found
+         */
+        int getPosition() {
+            return position;
+        }
+
+        /**
+         * @return description of the problem; null if no problem was found
+         */
+        String getReason() {
+            return reason;
+        }
+    }
+}
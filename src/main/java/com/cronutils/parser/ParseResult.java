@@ -0,0 +1,81 @@
+package com.cronutils.parser;
+
+import com.cronutils.model.Cron;
+
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Outcome of parsing a single expression in bulk: either a validated Cron or the reason it was rejected.
+ */
+public class ParseResult {
+    private final int index;
+    private final String expression;
+    private final Cron cron;
+    private final String error;
+
+    private ParseResult(int index, String expression, Cron cron, String error) {
+        this.index = index;
+        this.expression = expression;
+        this.cron = cron;
+        this.error = error;
+    }
+
+    static ParseResult success(int index, String expression, Cron cron) {
+        return new ParseResult(index, expression, cron, null);
+    }
+
+    static ParseResult failure(int index, String expression, String error) {
+        return new ParseResult(index, expression, null, error);
+    }
+
+    /**
+     * @return position of the expression in the parsed list
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return parsed expression, as given; may be null
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * @return true if expression was parsed and validated, false otherwise.
+     */
+    public boolean isValid() {
+        return error == null;
+    }
+
+    /**
+     * @return Cron instance; null if expression is not valid
+     */
+    public Cron getCron() {
+        return cron;
+    }
+
+    /**
+     * @return reason why expression was rejected, as reported by CronParser.validate(); null if it is valid
+     */
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? String.format("%s: %s", index, expression) : String.format("%s: %s (%s)", index, expression, error);
+    }
+}
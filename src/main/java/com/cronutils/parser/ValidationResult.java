@@ -0,0 +1,79 @@
+package com.cronutils.parser;
+
+import com.cronutils.model.field.CronFieldName;
+
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Outcome of validating a cron expression without parsing it: valid, or the first problem found.
+ */
+public class ValidationResult {
+    private static final ValidationResult VALID = new ValidationResult(true, -1, null, null);
+    private final boolean valid;
+    private final int position;
+    private final CronFieldName field;
+    private final String reason;
+
+    private ValidationResult(boolean valid, int position, CronFieldName field, String reason) {
+        this.valid = valid;
+        this.position = position;
+        this.field = field;
+        this.reason = reason;
+    }
+
+    static ValidationResult valid() {
+        return VALID;
+    }
+
+    static ValidationResult invalid(int position, CronFieldName field, String reason) {
+        return new ValidationResult(false, position, field, reason);
+    }
+
+    /**
+     * @return true if expression would be parsed, false otherwise.
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * @return index of the first char of the offending part of the expression;
+     * -1 if expression is valid or problem is not related to a single part (ex.: wrong amount of fields)
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * @return offending field; null if expression is valid or problem is not related to a single field
+     */
+    public CronFieldName getField() {
+        return field;
+    }
+
+    /**
+     * @return description of the problem; null if expression is valid
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        if (valid) {
+            return "valid";
+        }
+        return field == null ? reason : String.format("%s at %s: %s", field, position, reason);
+    }
+}
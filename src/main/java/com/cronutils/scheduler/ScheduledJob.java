@@ -0,0 +1,82 @@
+package com.cronutils.scheduler;
+
+import com.cronutils.model.time.ExecutionTime;
+import org.joda.time.DateTimeZone;
+
+import java.util.TimeZone;
+
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Job registered in a TimingWheelScheduler.
+ * Also acts as node of the wheel slot it is waiting in, so it can be unlinked in constant time.
+ */
+public final class ScheduledJob {
+    private final TimingWheelScheduler scheduler;
+    private final ExecutionTime executionTime;
+    private final DateTimeZone jodaZone;
+    private final TimeZone timeZone;
+    private final Runnable task;
+
+    long nextExecution;
+    boolean cancelled;
+    ScheduledJob previous;
+    ScheduledJob next;
+    /**
+     * Slot this job is linked to; null if not linked.
+     */
+    TimingWheelScheduler.Slot slot;
+
+    ScheduledJob(TimingWheelScheduler scheduler, ExecutionTime executionTime, DateTimeZone jodaZone, TimeZone timeZone, Runnable task) {
+        this.scheduler = scheduler;
+        this.executionTime = executionTime;
+        this.jodaZone = jodaZone;
+        this.timeZone = timeZone;
+        this.task = task;
+    }
+
+    long executionAfter(long epochSecond) {
+        if(jodaZone != null){
+            return executionTime.nextExecution(epochSecond, jodaZone);
+        }
+        return executionTime.nextExecution(epochSecond, timeZone);
+    }
+
+    Runnable getTask() {
+        return task;
+    }
+
+    /**
+     * @return next execution, as seconds from 1970-01-01T00:00:00Z; ExecutionTime.NO_EXECUTION if there is none.
+     */
+    public long getNextExecution() {
+        synchronized (scheduler) {
+            return nextExecution;
+        }
+    }
+
+    /**
+     * Prevents further executions of this job. A task already handed to the executor is not interrupted.
+     * @return true if job was cancelled by this call, false if it was already cancelled.
+     */
+    public boolean cancel() {
+        return scheduler.cancel(this);
+    }
+
+    public boolean isCancelled() {
+        synchronized (scheduler) {
+            return cancelled;
+        }
+    }
+}
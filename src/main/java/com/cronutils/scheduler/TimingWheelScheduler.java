@@ -0,0 +1,324 @@
+package com.cronutils.scheduler;
+
+import com.cronutils.model.time.ExecutionTime;
+import com.google.common.collect.Lists;
+import org.apache.commons.lang3.Validate;
+import org.joda.time.DateTimeZone;
+
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Schedules jobs on a hierarchical timing wheel: seconds, minutes, hours and days.
+ * Each job waits in the slot of its next execution, computed by ExecutionTime;
+ * jobs further than the days wheel wait in an overflow list checked once a day.
+ * Scheduling and cancelling a job cost constant time; advancing costs constant time per tick,
+ * plus moving jobs down a wheel, at most once per level.
+ * Due tasks are handed to the given executor, so running them never blocks the tick thread.
+ * Time is measured in seconds from 1970-01-01T00:00:00Z.
+ */
+public class TimingWheelScheduler {
+    private static final int[] SLOTS = {60, 60, 24, 366};
+    private static final long[] UNITS = {1, 60, 3600, 86400};
+
+    private final Executor executor;
+    private final Slot[][] wheels;
+    private final Slot overflow;
+    /**
+     * Amount of jobs per wheel; last position holds the overflow list.
+     */
+    private final int[] counts;
+    private long currentSecond;
+    private int size;
+    private ScheduledExecutorService ticker;
+
+    /**
+     * @param executor - runs due tasks. If null, a NullPointerException will be raised.
+     * @param startEpochSecond - current time; jobs are scheduled for executions strictly after it.
+     */
+    public TimingWheelScheduler(Executor executor, long startEpochSecond) {
+        this.executor = Validate.notNull(executor, "Executor must not be null");
+        Validate.isTrue(startEpochSecond >= 0, "Start must not be before 1970-01-01T00:00:00Z");
+        this.currentSecond = startEpochSecond;
+        this.wheels = new Slot[SLOTS.length][];
+        for(int level = 0; level < SLOTS.length; level++){
+            wheels[level] = new Slot[SLOTS[level]];
+            for(int j = 0; j < SLOTS[level]; j++){
+                wheels[level][j] = new Slot(level);
+            }
+        }
+        this.overflow = new Slot(SLOTS.length);
+        this.counts = new int[SLOTS.length + 1];
+    }
+
+    /**
+     * @param executor - runs due tasks. If null, a NullPointerException will be raised.
+     */
+    public TimingWheelScheduler(Executor executor) {
+        this(executor, System.currentTimeMillis() / 1000);
+    }
+
+    /**
+     * Schedules a task to run at each execution of given execution time.
+     * @param executionTime - ExecutionTime instance. If null, a NullPointerException will be raised.
+     * @param zone - time zone in which executions are evaluated. If null, a NullPointerException will be raised.
+     * @param task - task to run. If null, a NullPointerException will be raised.
+     * @return ScheduledJob instance, never null.
+     */
+    public ScheduledJob schedule(ExecutionTime executionTime, DateTimeZone zone, Runnable task) {
+        Validate.notNull(zone, "DateTimeZone must not be null");
+        return schedule(new ScheduledJob(this, Validate.notNull(executionTime, "ExecutionTime must not be null"),
+                zone, null, Validate.notNull(task, "Task must not be null")));
+    }
+
+    /**
+     * Schedules a task to run at each execution of given execution time.
+     * @param executionTime - ExecutionTime instance. If null, a NullPointerException will be raised.
+     * @param zone - time zone in which executions are evaluated. If null, a NullPointerException will be raised.
+     * @param task - task to run. If null, a NullPointerException will be raised.
+     * @return ScheduledJob instance, never null.
+     */
+    public ScheduledJob schedule(ExecutionTime executionTime, TimeZone zone, Runnable task) {
+        Validate.notNull(zone, "TimeZone must not be null");
+        return schedule(new ScheduledJob(this, Validate.notNull(executionTime, "ExecutionTime must not be null"),
+                null, zone, Validate.notNull(task, "Task must not be null")));
+    }
+
+    private synchronized ScheduledJob schedule(ScheduledJob job) {
+        job.nextExecution = job.executionAfter(currentSecond);
+        if(job.nextExecution != ExecutionTime.NO_EXECUTION){
+            insert(job);
+            size++;
+        }
+        return job;
+    }
+
+    synchronized boolean cancel(ScheduledJob job) {
+        if(job.cancelled){
+            return false;
+        }
+        job.cancelled = true;
+        if(job.slot != null){
+            unlink(job);
+            size--;
+        }
+        return true;
+    }
+
+    /**
+     * @return amount of jobs waiting for an execution.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return time up to which the wheel was advanced.
+     */
+    public synchronized long getCurrentSecond() {
+        return currentSecond;
+    }
+
+    /**
+     * Advances the wheel up to given time, handing tasks of executions reached to the executor, earliest first.
+     * Executions missed since last advance run once each.
+     * @param epochSecond - time to advance to. Nothing is done if not after current time.
+     */
+    public void advanceTo(long epochSecond) {
+        List<Runnable> due = Lists.newArrayList();
+        synchronized (this) {
+            while(currentSecond < epochSecond){
+                skipEmptyTicks(epochSecond);
+                if(currentSecond < epochSecond){
+                    tick(due);
+                }
+            }
+        }
+        for(Runnable task : due){
+            executor.execute(task);
+        }
+    }
+
+    /**
+     * Starts a daemon thread advancing the wheel to system time every second.
+     */
+    public synchronized void start() {
+        Validate.validState(ticker == null, "Scheduler already started");
+        ticker = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "cron-utils-timing-wheel");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        ticker.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                advanceTo(System.currentTimeMillis() / 1000);
+            }
+        }, 0, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the thread started by start(). Scheduled jobs are kept.
+     */
+    public synchronized void shutdown() {
+        if(ticker != null){
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    /**
+     * Lower wheels without jobs have nothing to do until the next unit of the lowest wheel holding jobs starts:
+     * moves current time right before it.
+     */
+    private void skipEmptyTicks(long epochSecond) {
+        int level = 0;
+        while(level < counts.length && counts[level] == 0){
+            level++;
+        }
+        if(level == 0){
+            return;
+        }
+        if(level == counts.length){
+            currentSecond = epochSecond;
+            return;
+        }
+        long unit = UNITS[Math.min(level, UNITS.length - 1)];
+        long beforeNextUnit = (currentSecond / unit + 1) * unit - 1;
+        currentSecond = Math.max(currentSecond, Math.min(beforeNextUnit, epochSecond));
+    }
+
+    private void tick(List<Runnable> due) {
+        currentSecond++;
+        //move jobs down from wheels whose unit starts now, largest unit first
+        if(currentSecond % UNITS[3] == 0){
+            cascade(overflow, due);
+        }
+        for(int level = SLOTS.length - 1; level > 0; level--){
+            if(currentSecond % UNITS[level] == 0){
+                cascade(wheels[level][slotIndex(level, currentSecond)], due);
+            }
+        }
+        Slot slot = wheels[0][slotIndex(0, currentSecond)];
+        while(slot.head != null){
+            fire(slot.head, due);
+        }
+    }
+
+    private void cascade(Slot slot, List<Runnable> due) {
+        ScheduledJob job = slot.head;
+        slot.head = null;
+        counts[slot.level] -= slot.size;
+        slot.size = 0;
+        while(job != null){
+            ScheduledJob next = job.next;
+            job.slot = null;
+            job.previous = null;
+            job.next = null;
+            if(job.nextExecution <= currentSecond){
+                due.add(job.getTask());
+                rearm(job);
+            }else{
+                insert(job);
+            }
+            job = next;
+        }
+    }
+
+    private void fire(ScheduledJob job, List<Runnable> due) {
+        unlink(job);
+        due.add(job.getTask());
+        rearm(job);
+    }
+
+    private void rearm(ScheduledJob job) {
+        job.nextExecution = job.executionAfter(job.nextExecution);
+        if(job.nextExecution == ExecutionTime.NO_EXECUTION){
+            size--;
+        }else{
+            insert(job);
+        }
+    }
+
+    /**
+     * Links job to the lowest wheel whose span covers its next execution.
+     * Next execution must be after current time.
+     */
+    private void insert(ScheduledJob job) {
+        long execution = Math.max(job.nextExecution, currentSecond + 1);
+        for(int level = 0; level < SLOTS.length; level++){
+            if(execution / UNITS[level] - currentSecond / UNITS[level] < SLOTS[level]){
+                link(wheels[level][slotIndex(level, execution)], job);
+                return;
+            }
+        }
+        link(overflow, job);
+    }
+
+    private static int slotIndex(int level, long epochSecond) {
+        return (int) ((epochSecond / UNITS[level]) % SLOTS[level]);
+    }
+
+    private void link(Slot slot, ScheduledJob job) {
+        counts[slot.level]++;
+        slot.size++;
+        job.slot = slot;
+        job.previous = null;
+        job.next = slot.head;
+        if(slot.head != null){
+            slot.head.previous = job;
+        }
+        slot.head = job;
+    }
+
+    private void unlink(ScheduledJob job) {
+        Slot slot = job.slot;
+        counts[slot.level]--;
+        slot.size--;
+        if(job.previous != null){
+            job.previous.next = job.next;
+        }else{
+            slot.head = job.next;
+        }
+        if(job.next != null){
+            job.next.previous = job.previous;
+        }
+        job.slot = null;
+        job.previous = null;
+        job.next = null;
+    }
+
+    /**
+     * Doubly linked list of jobs waiting in a wheel slot.
+     */
+    static final class Slot {
+        private final int level;
+        private ScheduledJob head;
+        private int size;
+
+        private Slot(int level) {
+            this.level = level;
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.cronutils.mapper;
 
+import com.cronutils.model.Cron;
 import com.cronutils.model.CronType;
 import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.model.time.ExecutionTime;
 import com.cronutils.parser.CronParser;
 import com.google.common.collect.Sets;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -94,6 +98,18 @@ public class CronMapperIntegrationTest {
         assertEquals(String.format("Expected [%s] but got [%s]", expected, mapping), expected, mapping);
     }
 
+    @Test
+    public void testHashedDayOfWeekQuartzToUnix(){
+        for (int j = 0; j < 20; j++) {
+            Cron quartz = quartzParser().parse("0 0 12 ? * H(2-6)", "job-" + j);
+            Cron unix = CronMapper.fromQuartzToUnix().map(quartz);
+            assertEquals("0 12 * * H(1-5)", unix.asString());
+            DateTime reference = new DateTime(2016, 1, 1, 0, 0, DateTimeZone.UTC);
+            assertEquals(ExecutionTime.forCron(quartz).nextExecution(reference).getDayOfWeek(),
+                    ExecutionTime.forCron(unix).nextExecution(reference).getDayOfWeek());
+        }
+    }
+
     private CronParser cron4jParser(){
         return new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.CRON4J));
     }
@@ -9,6 +9,8 @@ import org.junit.Before;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /*
@@ -95,4 +97,23 @@ public class FieldParserTest {
     public void testCostructorNullConstraints() throws Exception {
         new FieldParser(null);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSharedInstances() throws Exception {
+        assertSame(parser.parse("*"), parser.parse("*"));
+        assertSame(parser.parse("?"), parser.parse("?"));
+        assertSame(((On) parser.parse("5")).getTime(), IntegerFieldValue.of(5));
+        assertSame(((On) parser.parse("5")).getNth(), ((On) parser.parse("5L")).getNth());
+    }
+
+    @Test
+    public void testEqualExpressionsAreInterned() throws Exception {
+        assertSame(parser.parse("5"), parser.parse("5"));
+        assertSame(parser.parse("1-5/2"), parser.parse("1-5/2"));
+        assertSame(parser.parse("*/15"), parser.parse("*/15"));
+        And and = (And) parser.parse("1,5-10");
+        assertNotSame(and, parser.parse("1,5-10"));
+        assertSame(and.getExpressions().get(1), parser.parse("5-10"));
+        assertNotSame(parser.parse("5"), new FieldParser(FieldConstraintsBuilder.instance().createConstraintsInstance()).parse("5"));
+    }
+}
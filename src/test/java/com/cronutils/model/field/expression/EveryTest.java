@@ -7,6 +7,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 /*
  * Copyright 2015 jmrozanec
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -37,4 +38,13 @@ public class EveryTest {
     public void testGetTimeNull() throws Exception {
         assertEquals(1, (int)new Every(null).getPeriod().getValue());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testEquals() throws Exception {
+        Every every = new Every(new Between(new IntegerFieldValue(1), new IntegerFieldValue(10)), new IntegerFieldValue(2));
+        Every same = new Every(new Between(IntegerFieldValue.of(1), IntegerFieldValue.of(10)), IntegerFieldValue.of(2));
+        assertEquals(every, same);
+        assertEquals(every.hashCode(), same.hashCode());
+        assertFalse(new Every(IntegerFieldValue.of(1)).equals(new Every(new On(IntegerFieldValue.of(3)), IntegerFieldValue.of(1))));
+    }
+}
@@ -0,0 +1,52 @@
+package com.cronutils.model.field.expression;
+
+import com.cronutils.model.field.value.IntegerFieldValue;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class HashedTest {
+
+    @Test
+    public void testSingleValue() throws Exception {
+        Hashed hashed = new Hashed(new IntegerFieldValue(0), new IntegerFieldValue(59), false, new IntegerFieldValue(1), 125);
+        assertEquals(5, hashed.getValue());
+        assertEquals(Lists.newArrayList(5), hashed.getValues());
+        assertEquals("H", hashed.asString());
+        assertTrue(hashed.resolve() instanceof On);
+    }
+
+    @Test
+    public void testPeriod() throws Exception {
+        Hashed hashed = new Hashed(new IntegerFieldValue(0), new IntegerFieldValue(59), false, new IntegerFieldValue(15), 22);
+        assertEquals(Lists.newArrayList(7, 22, 37, 52), hashed.getValues());
+        assertEquals("H/15", hashed.asString());
+        assertEquals("7-59/15", hashed.resolve().asString());
+    }
+
+    @Test
+    public void testRange() throws Exception {
+        Hashed hashed = new Hashed(new IntegerFieldValue(10), new IntegerFieldValue(19), true, new IntegerFieldValue(4), 7);
+        assertEquals(Lists.newArrayList(13, 17), hashed.getValues());
+        assertEquals("H(10-19)/4", hashed.asString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeHash() throws Exception {
+        new Hashed(new IntegerFieldValue(0), new IntegerFieldValue(59), false, new IntegerFieldValue(1), -1);
+    }
+}
@@ -0,0 +1,73 @@
+package com.cronutils.model.time;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class CalendarArithmeticTest {
+
+    @Test
+    public void testEpochDayMatchesJodatime() throws Exception {
+        DateTime date = new DateTime(1600, 1, 1, 0, 0, DateTimeZone.UTC);
+        DateTime end = new DateTime(2400, 12, 31, 0, 0, DateTimeZone.UTC);
+        while(date.isBefore(end)){
+            long epochDay = date.getMillis() / 86400000L;
+            if(date.getMillis() < 0 && date.getMillis() % 86400000L != 0){
+                epochDay--;
+            }
+            assertEquals(epochDay, CalendarArithmetic.epochDay(date.getYear(), date.getMonthOfYear(), date.getDayOfMonth()));
+            int packed = CalendarArithmetic.packedDate(epochDay);
+            assertEquals(date.getYear(), CalendarArithmetic.year(packed));
+            assertEquals(date.getMonthOfYear(), CalendarArithmetic.month(packed));
+            assertEquals(date.getDayOfMonth(), CalendarArithmetic.day(packed));
+            assertEquals(date.getDayOfWeek(), CalendarArithmetic.dayOfWeek(epochDay));
+            assertEquals(date.getDayOfWeek(), CalendarArithmetic.dayOfWeek(date.getYear(), date.getMonthOfYear(), date.getDayOfMonth()));
+            assertEquals(date.dayOfMonth().getMaximumValue(), CalendarArithmetic.lengthOfMonth(date.getYear(), date.getMonthOfYear()));
+            date = date.plusDays(1);
+        }
+    }
+
+    @Test
+    public void testLocalSecond() throws Exception {
+        assertEquals(0, CalendarArithmetic.localSecond(1970, 1, 1, 0, 0, 0));
+        assertEquals(-1, CalendarArithmetic.localSecond(1969, 12, 31, 23, 59, 59));
+        long localSecond = CalendarArithmetic.localSecond(2016, 2, 29, 13, 45, 30);
+        assertEquals(new DateTime(2016, 2, 29, 13, 45, 30, DateTimeZone.UTC).getMillis() / 1000, localSecond);
+        assertEquals(13 * 3600 + 45 * 60 + 30, CalendarArithmetic.secondOfDay(localSecond));
+        assertEquals(86399, CalendarArithmetic.secondOfDay(-1));
+    }
+
+    @Test
+    public void testLengthOfMonth() throws Exception {
+        assertEquals(29, CalendarArithmetic.lengthOfMonth(2016, 2));
+        assertEquals(28, CalendarArithmetic.lengthOfMonth(1900, 2));
+        assertEquals(29, CalendarArithmetic.lengthOfMonth(2000, 2));
+        assertEquals(30, CalendarArithmetic.lengthOfMonth(2015, 11));
+        assertEquals(31, CalendarArithmetic.lengthOfMonth(2015, 12));
+        assertTrue(CalendarArithmetic.isLeapYear(2016));
+        assertFalse(CalendarArithmetic.isLeapYear(2100));
+    }
+
+    @Test
+    public void testFloorDivAndMod() throws Exception {
+        assertEquals(-1, CalendarArithmetic.floorDiv(-1, 7));
+        assertEquals(6, CalendarArithmetic.floorMod(-1, 7));
+        assertEquals(1, CalendarArithmetic.floorDiv(7, 7));
+        assertEquals(0, CalendarArithmetic.floorMod(7, 7));
+    }
+}
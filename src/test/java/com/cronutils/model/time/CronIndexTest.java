@@ -0,0 +1,103 @@
+package com.cronutils.model.time;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class CronIndexTest {
+    private static final String[] EXPRESSIONS = {"0 */5 * * * ?", "0 0 12 * * ?", "30 */7 9-17 ? * MON,WED,FRI", "0 0 12 L * ?", "0 15 10 ? * 6#3"};
+    private CronParser parser;
+    private CronIndex index;
+    private long from;
+
+    @Before
+    public void setUp() throws Exception {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        index = new CronIndex();
+        from = new DateTime(2016, 1, 1, 0, 0, DateTimeZone.UTC).getMillis() / 1000;
+    }
+
+    @Test
+    public void testPollDueMatchesExecutionsOfEachJob() throws Exception {
+        ExecutionTime[] executionTimes = new ExecutionTime[EXPRESSIONS.length * 10];
+        for(int j = 0; j < executionTimes.length; j++){
+            executionTimes[j] = ExecutionTime.forCron(parser.parse(EXPRESSIONS[j % EXPRESSIONS.length]));
+            assertEquals(j, index.add(executionTimes[j], DateTimeZone.UTC, from + j));
+        }
+        long[] expected = new long[executionTimes.length];
+        for(int j = 0; j < executionTimes.length; j++){
+            expected[j] = executionTimes[j].nextExecution(from + j, DateTimeZone.UTC);
+        }
+        int[] jobIds = new int[7];
+        long[] executions = new long[7];
+        long to = from + 40 * 24 * 3600;
+        long previous = Long.MIN_VALUE;
+        int polled = 0;
+        for(long now = from; now <= to; now += 3600){
+            int count;
+            do {
+                count = index.pollDue(now, jobIds, executions);
+                for(int j = 0; j < count; j++){
+                    assertTrue(executions[j] <= now);
+                    assertTrue(executions[j] >= previous);
+                    assertEquals(expected[jobIds[j]], executions[j]);
+                    expected[jobIds[j]] = executionTimes[jobIds[j]].nextExecution(executions[j], DateTimeZone.UTC);
+                    previous = executions[j];
+                    polled++;
+                }
+            } while(count == jobIds.length);
+            assertTrue(index.nextExecution() > now);
+        }
+        assertTrue(polled > 0);
+        for(int j = 0; j < executionTimes.length; j++){
+            assertTrue(expected[j] > to);
+            assertEquals(expected[j], index.nextExecution(j));
+        }
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        int first = index.add(ExecutionTime.forCron(parser.parse("0 0 12 * * ?")), DateTimeZone.UTC, from);
+        int second = index.add(ExecutionTime.forCron(parser.parse("0 0 13 * * ?")), DateTimeZone.UTC, from);
+        assertTrue(index.remove(first));
+        assertFalse(index.remove(first));
+        assertEquals(1, index.size());
+        int[] jobIds = new int[4];
+        long[] executions = new long[4];
+        assertEquals(1, index.pollDue(from + 24 * 3600, jobIds, executions));
+        assertEquals(second, jobIds[0]);
+        assertEquals(first, index.add(ExecutionTime.forCron(parser.parse("0 0 14 * * ?")), DateTimeZone.UTC, from));
+    }
+
+    @Test
+    public void testJobWithoutMoreExecutions() throws Exception {
+        int jobId = index.add(ExecutionTime.forCron(parser.parse("0 0 12 1 1 ? 2016")), DateTimeZone.UTC, from);
+        int[] jobIds = new int[4];
+        long[] executions = new long[4];
+        assertEquals(1, index.pollDue(from + 365 * 24 * 3600L, jobIds, executions));
+        assertEquals(jobId, jobIds[0]);
+        assertEquals(ExecutionTime.NO_EXECUTION, index.nextExecution());
+        assertEquals(ExecutionTime.NO_EXECUTION, index.nextExecution(jobId));
+        assertTrue(index.contains(jobId));
+        assertEquals(0, index.pollDue(Long.MAX_VALUE, jobIds, executions));
+    }
+}
@@ -0,0 +1,83 @@
+package com.cronutils.model.time;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import com.google.common.collect.Lists;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Duration;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class ExecutionHistogramTest {
+    private CronParser quartzCronParser;
+
+    @Before
+    public void setUp(){
+        quartzCronParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+    }
+
+    @Test
+    public void testCountMatchesEnumeratedExecutions() {
+        List<ExecutionTime> executionTimes = Lists.newArrayList();
+        for(String expression : new String[]{"0 0 * * * ?", "0 30 2 * * ?", "0/10 0/7 1-3 * * ?", "15 0 0 ? * MON,WED,FRI", "0 0 0 L * ?"}){
+            executionTimes.add(ExecutionTime.forCron(quartzCronParser.parse(expression)));
+        }
+        DateTimeZone zone = DateTimeZone.forID("America/New_York");
+        for(DateTime from : new DateTime[]{new DateTime(2016, 3, 10, 0, 0, 17, zone), new DateTime(2016, 10, 30, 12, 0, zone)}){
+            DateTime to = from.plusDays(10).plusSeconds(5);
+            for(int bucketSeconds : new int[]{7, 60, 3600}){
+                long windowSeconds = (to.getMillis() - from.getMillis()) / 1000;
+                long[] expected = new long[(int) ((windowSeconds + bucketSeconds - 1) / bucketSeconds)];
+                for(ExecutionTime executionTime : executionTimes){
+                    Iterator<DateTime> executions = executionTime.executionsBetween(from.minusSeconds(1), to.minusSeconds(1));
+                    while(executions.hasNext()){
+                        expected[(int) ((executions.next().getMillis() - from.getMillis()) / 1000 / bucketSeconds)]++;
+                    }
+                }
+                assertArrayEquals(expected, ExecutionHistogram.count(executionTimes, from, to, Duration.standardSeconds(bucketSeconds)));
+            }
+        }
+    }
+
+    @Test
+    public void testPeak() {
+        List<ExecutionTime> executionTimes = Lists.newArrayList(
+                ExecutionTime.forCron(quartzCronParser.parse("0 0 0 * * ?")),
+                ExecutionTime.forCron(quartzCronParser.parse("0 0 0 * * ?")),
+                ExecutionTime.forCron(quartzCronParser.parse("0 0/30 * * * ?"))
+        );
+        DateTime from = new DateTime(2016, 6, 1, 0, 0, DateTimeZone.UTC);
+        long[] buckets = ExecutionHistogram.count(executionTimes, from, from.plusDays(1), Duration.standardMinutes(1));
+        assertEquals(1440, buckets.length);
+        assertEquals(3, buckets[0]);
+        assertEquals(1, buckets[30]);
+        assertEquals(0, buckets[31]);
+        assertEquals(0, ExecutionHistogram.peak(buckets));
+        assertEquals(-1, ExecutionHistogram.peak(new long[0]));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyWindow() {
+        DateTime from = new DateTime(2016, 6, 1, 0, 0, DateTimeZone.UTC);
+        ExecutionHistogram.count(Lists.<ExecutionTime>newArrayList(), from, from, Duration.standardMinutes(1));
+    }
+}
@@ -0,0 +1,68 @@
+package com.cronutils.model.time;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinition;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class ExecutionTimeCacheTest {
+    private CronParser parser;
+    private ExecutionTimeCache cache;
+
+    @Before
+    public void setUp() throws Exception {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        cache = new ExecutionTimeCache(2);
+    }
+
+    @Test
+    public void testSameExpressionSharesExecutionTime() throws Exception {
+        ExecutionTime executionTime = cache.get(parser.parse("0 0 12 * * ?"));
+        assertSame(executionTime, cache.get(parser.parse("0 0 12 * * ?")));
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    public void testDifferentDefinitionsDoNotShareExecutionTime() throws Exception {
+        CronDefinition definition = CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ);
+        ExecutionTime executionTime = cache.get(parser.parse("0 0 12 * * ?"));
+        assertNotSame(executionTime, cache.get(new CronParser(definition).parse("0 0 12 * * ?")));
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        cache.get(parser.parse("0 0 12 * * ?"));
+        cache.get(parser.parse("0 0 13 * * ?"));
+        cache.get(parser.parse("0 0 14 * * ?"));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.stats().evictionCount());
+    }
+
+    @Test
+    public void testSharedCache() throws Exception {
+        assertSame(ExecutionTimeCache.forCron(parser.parse("0 0 12 * * ?")), ExecutionTimeCache.shared().get(parser.parse("0 0 12 * * ?")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCronIsNotCached() throws Exception {
+        cache.get(parser.parse("0 0 12 1W ? *"));
+    }
+}
@@ -5,15 +5,25 @@ import com.cronutils.model.CronType;
 import com.cronutils.model.definition.CronDefinition;
 import com.cronutils.model.definition.CronDefinitionBuilder;
 import com.cronutils.parser.CronParser;
+import com.google.common.collect.Lists;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeConstants;
 import org.joda.time.DateTimeZone;
+import org.joda.time.Duration;
 import org.joda.time.Interval;
 import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static org.junit.Assert.*;
 
 import java.text.SimpleDateFormat;
@@ -402,6 +412,463 @@ public class ExecutionTimeQuartzIntegrationTest {
         );
     }
 
+    /**
+     * Day candidates are resolved once per (year, month) and reused by later searches.
+     */
+    @Test
+    public void testDayCandidatesReusedForSameMonth() {
+        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse("0 0 12 LW * ? *"));
+        TimeNode days = executionTime.generateDays(2016, 2);
+        assertSame(days, executionTime.generateDays(2016, 2));
+        assertEquals(1, days.size());
+        assertEquals(29, days.getLowestValue());
+        TimeNode march = executionTime.generateDays(2016, 3);
+        assertEquals(31, march.getLowestValue());
+        assertEquals(DateTime.parse("2016-03-31T12:00:00.000Z").withZone(DateTimeZone.UTC),
+                executionTime.nextExecution(DateTime.parse("2016-03-01T00:00:00.000Z").withZone(DateTimeZone.UTC)));
+    }
+
+    @Test
+    public void testEpochSecondExecutionsMatchDateTimeExecutions() {
+        String[] expressions = {"0 0 12 * * ?", "0 */5 * * * ?", "0 0 12 L * ?", "0 0 12 15W * ?", "0 0 12 ? * 6#3", "0 15 10 ? * MON,WED,FRI"};
+        DateTimeZone zone = DateTimeZone.forID("Europe/Berlin");
+        DateTime reference = new DateTime(2016, 3, 18, 19, 2, 51, zone);
+        for(String expression : expressions){
+            ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse(expression));
+            long epochSecond = reference.getMillis() / 1000;
+            assertEquals(expression, executionTime.nextExecution(reference).getMillis() / 1000, executionTime.nextExecution(epochSecond, zone));
+            assertEquals(expression, executionTime.lastExecution(reference).getMillis() / 1000, executionTime.lastExecution(epochSecond, zone));
+        }
+    }
+
+    @Test
+    public void testEpochSecondExecutionForLeapDay() {
+        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse("0 0 0 29 2 ? *"));
+        long reference = new DateTime(2017, 3, 1, 0, 0, DateTimeZone.UTC).getMillis() / 1000;
+        assertEquals(new DateTime(2020, 2, 29, 0, 0, DateTimeZone.UTC).getMillis() / 1000, executionTime.nextExecution(reference, DateTimeZone.UTC));
+        assertEquals(new DateTime(2016, 2, 29, 0, 0, DateTimeZone.UTC).getMillis() / 1000, executionTime.lastExecution(reference, DateTimeZone.UTC));
+    }
+
+    @Test
+    public void testEpochSecondExecutionOutsideYearRange() {
+        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse("0 30 12 1 9 ? 2010"));
+        long reference = new DateTime(2016, 1, 8, 11, 0, DateTimeZone.UTC).getMillis() / 1000;
+        assertEquals(ExecutionTime.NO_EXECUTION, executionTime.nextExecution(reference, DateTimeZone.UTC));
+        assertEquals(new DateTime(2010, 9, 1, 12, 30, DateTimeZone.UTC).getMillis() / 1000, executionTime.lastExecution(reference, DateTimeZone.UTC));
+    }
+
+    @Test
+    public void testEpochSecondExecutionOnLastDayOfMonthForAnyDayOfWeek() {
+        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse("0 0 12 ? * *"));
+        long reference = new DateTime(2016, 1, 30, 13, 0, DateTimeZone.UTC).getMillis() / 1000;
+        assertEquals(new DateTime(2016, 1, 31, 12, 0, DateTimeZone.UTC).getMillis() / 1000, executionTime.nextExecution(reference, DateTimeZone.UTC));
+    }
+
+    @Test
+    public void testEpochSecondExecutionForImpossibleDate() {
+        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse("0 0 0 30 2 ?"));
+        long reference = new DateTime(2016, 1, 30, 13, 0, DateTimeZone.UTC).getMillis() / 1000;
+        assertEquals(ExecutionTime.NO_EXECUTION, executionTime.nextExecution(reference, DateTimeZone.UTC));
+        assertEquals(ExecutionTime.NO_EXECUTION, executionTime.lastExecution(reference, DateTimeZone.UTC));
+    }
+
+    @Test
+    public void testExecutionsIteratorMatchesNextExecution() {
+        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse("0 15 10 ? * MON,WED,FRI"));
+        DateTime expected = new DateTime(2016, 2, 26, 11, 0, DateTimeZone.forID("Europe/Berlin"));
+        Iterator<DateTime> executions = executionTime.executions(expected);
+        for(int j = 0; j < 1000; j++){
+            expected = executionTime.nextExecution(expected);
+            assertEquals(expected, executions.next());
+        }
+    }
+
+    @Test
+    public void testExecutionsBetween() {
+        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse("0 0 12 * * ?"));
+        DateTime from = new DateTime(2016, 1, 1, 12, 0, DateTimeZone.UTC);
+        Iterator<DateTime> executions = executionTime.executionsBetween(from, from.plusDays(3));
+        assertEquals(from.plusDays(1), executions.next());
+        assertEquals(from.plusDays(2), executions.next());
+        assertEquals(from.plusDays(3), executions.next());
+        assertFalse(executions.hasNext());
+    }
+
+    @Test
+    public void testExecutionsEndWithYearRange() {
+        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse("0 30 12 1 9 ? 2010-2011"));
+        Iterator<DateTime> executions = executionTime.executions(new DateTime(2010, 1, 1, 0, 0, DateTimeZone.UTC));
+        assertEquals(new DateTime(2010, 9, 1, 12, 30, DateTimeZone.UTC), executions.next());
+        assertEquals(new DateTime(2011, 9, 1, 12, 30, DateTimeZone.UTC), executions.next());
+        assertFalse(executions.hasNext());
+    }
+
+    @Test
+    public void testCountExecutionsEverySecondOverMonth() {
+        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse("* * * * * ?"));
+        DateTime from = new DateTime(2016, 1, 1, 0, 0, DateTimeZone.UTC);
+        assertEquals(31 * 24 * 60 * 60, executionTime.countExecutions(from, from.plusMonths(1)));
+        assertEquals(0, executionTime.countExecutions(from, from));
+    }
+
+    @Test
+    public void testCountExecutionsMatchesExecutionsBetween() {
+        String[] expressions = {"0 0 12 * * ?", "0 */7 9-17 ? * MON,WED,FRI", "0 0 12 L * ?", "0 0 12 15W * ?",
+                "0 0 12 ? * 6#3", "15,45 */20 * 1,31 * ?", "0 30 12 1 9 ? 2016-2017"};
+        DateTime from = new DateTime(2016, 3, 18, 19, 2, 51, DateTimeZone.forID("Europe/Berlin"));
+        DateTime[] ends = {from.plusMinutes(20), from.plusHours(7), from.plusDays(3), from.plusMonths(2), from.plusYears(2)};
+        for(String expression : expressions){
+            ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse(expression));
+            for(DateTime to : ends){
+                int expected = 0;
+                Iterator<DateTime> executions = executionTime.executionsBetween(from, to);
+                while(executions.hasNext()){
+                    executions.next();
+                    expected++;
+                }
+                assertEquals(expression + " until " + to, expected, executionTime.countExecutions(from, to));
+            }
+        }
+    }
+
+    @Test
+    public void testCountExecutionsAcrossSpringForward() {
+        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse("0 30 * * * ?"));
+        DateTimeZone newYork = DateTimeZone.forID("America/New_York");
+        DateTime from = new DateTime(2015, 3, 8, 0, 0, newYork);
+        DateTime to = new DateTime(2015, 3, 8, 5, 0, newYork);
+        assertEquals(4, countIterated(executionTime, from, to));
+        assertEquals(4, executionTime.countExecutions(from, to));
+    }
+
+    @Test
+    public void testCountExecutionsAcrossFallBackTwice() {
+        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse("0 30 * * * ?"))
+                .withTransitionPolicies(GapPolicy.SHIFT, OverlapPolicy.TWICE);
+        DateTimeZone newYork = DateTimeZone.forID("America/New_York");
+        DateTime from = new DateTime(2015, 11, 1, 0, 0, newYork);
+        DateTime to = new DateTime(2015, 11, 1, 4, 0, newYork);
+        assertEquals(5, countIterated(executionTime, from, to));
+        assertEquals(5, executionTime.countExecutions(from, to));
+    }
+
+    @Test
+    public void testCountExecutionsSkippingGap() {
+        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse("0 0/20 2 * * ?"))
+                .withTransitionPolicies(GapPolicy.SKIP, OverlapPolicy.ONCE);
+        DateTimeZone newYork = DateTimeZone.forID("America/New_York");
+        DateTime from = new DateTime(2015, 3, 8, 0, 0, newYork);
+        DateTime to = new DateTime(2015, 3, 8, 12, 0, newYork);
+        assertEquals(0, countIterated(executionTime, from, to));
+        assertEquals(0, executionTime.countExecutions(from, to));
+        assertEquals(countIterated(executionTime, from.minusDays(3), to.plusDays(3)),
+                executionTime.countExecutions(from.minusDays(3), to.plusDays(3)));
+    }
+
+    @Test
+    public void testCountExecutionsMatchesExecutionsBetweenAcrossTransitions() {
+        String[] expressions = {"0 30 * * * ?", "0 0/20 1-3 * * ?", "0 15 2 ? * SUN", "0 0 12 * * ?"};
+        DateTimeZone newYork = DateTimeZone.forID("America/New_York");
+        DateTime from = new DateTime(2015, 1, 1, 0, 0, newYork);
+        for(String expression : expressions){
+            ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse(expression));
+            ExecutionTime[] variants = {executionTime,
+                    executionTime.withTransitionPolicies(GapPolicy.SKIP, OverlapPolicy.TWICE)};
+            for(ExecutionTime variant : variants){
+                DateTime to = from.plusYears(1);
+                assertEquals(expression, countIterated(variant, from, to), variant.countExecutions(from, to));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNextExecutionForDayMissingInAllMonths() {
+        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse("0 0 0 31 2,4,6,9,11 ?"));
+        executionTime.nextExecution(new DateTime(2016, 1, 1, 0, 0, DateTimeZone.UTC));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLastExecutionForDayMissingInAllMonths() {
+        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse("0 0 0 31 2,4,6,9,11 ?"));
+        executionTime.lastExecution(new DateTime(2016, 1, 1, 0, 0, DateTimeZone.UTC));
+    }
+
+    @Test
+    public void testSearchHorizon() {
+        Cron cron = quartzCronParser.parse("0 0 0 29 2 ?");
+        long reference = new DateTime(2017, 3, 1, 0, 0, DateTimeZone.UTC).getMillis() / 1000;
+        assertEquals(ExecutionTime.NO_EXECUTION, ExecutionTime.forCron(cron, 2).nextExecution(reference, DateTimeZone.UTC));
+        assertEquals(new DateTime(2020, 2, 29, 0, 0, DateTimeZone.UTC).getMillis() / 1000,
+                ExecutionTime.forCron(cron, 4).nextExecution(reference, DateTimeZone.UTC));
+    }
+
+    @Test
+    public void testSearchHorizonChargesSkippedYears() {
+        Cron cron = quartzCronParser.parse("0 0 0 1 1 ? 2010,2030");
+        long reference = new DateTime(2020, 6, 1, 0, 0, DateTimeZone.UTC).getMillis() / 1000;
+        assertEquals(ExecutionTime.NO_EXECUTION, ExecutionTime.forCron(cron, 5).nextExecution(reference, DateTimeZone.UTC));
+        assertEquals(ExecutionTime.NO_EXECUTION, ExecutionTime.forCron(cron, 5).lastExecution(reference, DateTimeZone.UTC));
+        assertEquals(new DateTime(2030, 1, 1, 0, 0, DateTimeZone.UTC).getMillis() / 1000,
+                ExecutionTime.forCron(cron, 10).nextExecution(reference, DateTimeZone.UTC));
+        assertEquals(new DateTime(2010, 1, 1, 0, 0, DateTimeZone.UTC).getMillis() / 1000,
+                ExecutionTime.forCron(cron, 10).lastExecution(reference, DateTimeZone.UTC));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSearchHorizonMustBePositive() {
+        ExecutionTime.forCron(quartzCronParser.parse("0 0 0 29 2 ?"), 0);
+    }
+
+    @Test
+    public void testIsMatchAgreesWithExecutions() {
+        String[] expressions = {"0 */7 9-17 ? * MON,WED,FRI", "0 0 12 L * ?", "0 0 12 15W * ?", "15,45 */20 * 1,31 * ?"};
+        DateTime from = new DateTime(2016, 1, 28, 0, 0, DateTimeZone.forID("America/New_York"));
+        for(String expression : expressions){
+            ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse(expression));
+            DateTime next = executionTime.nextExecution(from);
+            for(DateTime date = from; date.isBefore(from.plusDays(40)); date = date.plusSeconds(15)){
+                if(date.isAfter(next)){
+                    next = executionTime.nextExecution(next);
+                }
+                assertEquals(expression + " at " + date, date.equals(next), executionTime.isMatch(date));
+            }
+        }
+    }
+
+    @Test
+    public void testExecutionsFallOnWholeSeconds() {
+        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse(EVERY_SECOND));
+        DateTime date = new DateTime(2016, 1, 28, 10, 0, 0, DateTimeZone.UTC);
+        assertTrue(executionTime.isMatch(date));
+        assertFalse(executionTime.isMatch(date.plusMillis(1)));
+        assertEquals(date.plusSeconds(1), executionTime.nextExecution(date.plusMillis(500)));
+        assertEquals(date, executionTime.lastExecution(date.plusMillis(500)));
+        assertEquals(date.plusSeconds(1), executionTime.executions(date.plusMillis(500)).next());
+    }
+
+    @Test
+    public void testJdkTimeZoneExecutionsMatchJodaExecutions() {
+        String[] expressions = {"0 30 * * * ?", "0 0 2 * * ?", "0 15 10 ? * MON,WED,FRI"};
+        String[] zones = {"America/New_York", "Europe/Berlin", "Australia/Sydney"};
+        for(String expression : expressions){
+            ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse(expression));
+            for(String zone : zones){
+                DateTime date = new DateTime(2016, 3, 1, 0, 0, DateTimeZone.forID(zone));
+                for(int j = 0; j < 500; j++){
+                    Date next = executionTime.nextExecution(date.toDate(), TimeZone.getTimeZone(zone));
+                    assertEquals(expression + " " + zone, executionTime.nextExecution(date).toDate(), next);
+                    assertEquals(expression + " " + zone, executionTime.lastExecution(date).toDate(),
+                            executionTime.lastExecution(date.toDate(), TimeZone.getTimeZone(zone)));
+                    date = date.plusHours(7);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testGapPolicies() {
+        DateTimeZone zone = DateTimeZone.forID("America/New_York");
+        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse("0 30 2 * * ?"));
+        DateTime reference = new DateTime(2016, 3, 13, 0, 0, zone);
+        assertEquals(new DateTime(2016, 3, 13, 3, 30, zone), executionTime.nextExecution(reference));
+        assertTrue(executionTime.isMatch(new DateTime(2016, 3, 13, 3, 30, zone)));
+
+        ExecutionTime skipping = executionTime.withTransitionPolicies(GapPolicy.SKIP, OverlapPolicy.ONCE);
+        assertEquals(new DateTime(2016, 3, 14, 2, 30, zone), skipping.nextExecution(reference));
+        assertEquals(new DateTime(2016, 3, 12, 2, 30, zone), skipping.lastExecution(new DateTime(2016, 3, 14, 0, 0, zone)));
+        assertFalse(skipping.isMatch(new DateTime(2016, 3, 13, 3, 30, zone)));
+    }
+
+    @Test
+    public void testOverlapPolicies() {
+        DateTimeZone zone = DateTimeZone.forID("America/New_York");
+        DateTime firstPass = new DateTime(2016, 11, 6, 5, 30, DateTimeZone.UTC).withZone(zone);
+        DateTime secondPass = firstPass.plusHours(1);
+        DateTime reference = new DateTime(2016, 11, 6, 0, 0, zone);
+        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse("0 30 1 * * ?"));
+        assertEquals(firstPass, executionTime.nextExecution(reference));
+        assertEquals(new DateTime(2016, 11, 7, 1, 30, zone), executionTime.nextExecution(firstPass));
+        assertFalse(executionTime.isMatch(secondPass));
+
+        ExecutionTime twice = executionTime.withTransitionPolicies(GapPolicy.SHIFT, OverlapPolicy.TWICE);
+        assertEquals(firstPass, twice.nextExecution(reference));
+        assertEquals(secondPass, twice.nextExecution(firstPass));
+        assertEquals(firstPass, twice.lastExecution(secondPass));
+        assertTrue(twice.isMatch(secondPass));
+    }
+
+    @Test
+    public void testBatchNextExecutionsMatchSingleNextExecution() {
+        DateTimeZone zone = DateTimeZone.forID("America/New_York");
+        List<ExecutionTime> executionTimes = Lists.newArrayList();
+        for(String expression : new String[]{"0 30 2 * * ?", "0 30 1 * * ?", "0 0/15 * * * ?", "0 0 12 ? * MON,WED,FRI",
+                "0 0 0 L * ?", "0 0 0 29 2 ? 2017", "0 0 0 1 1 ? 2020,2024"}){
+            executionTimes.add(ExecutionTime.forCron(quartzCronParser.parse(expression)));
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            for(DateTime reference : new DateTime[]{new DateTime(2016, 3, 13, 1, 59, 59, zone),
+                    new DateTime(2016, 11, 6, 1, 30, zone), new DateTime(2016, 12, 31, 23, 59, zone)}){
+                long epochSecond = reference.getMillis() / 1000;
+                long[] executions = ExecutionTime.nextExecutions(executionTimes, epochSecond, zone);
+                long[] jdkExecutions = ExecutionTime.nextExecutions(executionTimes, epochSecond, zone.toTimeZone());
+                long[] parallelExecutions = ExecutionTime.nextExecutions(executionTimes, epochSecond, zone, executorService);
+                for(int j = 0; j < executionTimes.size(); j++){
+                    long expected = executionTimes.get(j).nextExecution(epochSecond, zone);
+                    assertEquals(expected, executions[j]);
+                    assertEquals(expected, jdkExecutions[j]);
+                    assertEquals(expected, parallelExecutions[j]);
+                }
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testBatchNextExecutionsInParallelChunks() {
+        ExecutionTime everyMinute = ExecutionTime.forCron(quartzCronParser.parse("0 * * * * ?"));
+        ExecutionTime daily = ExecutionTime.forCron(quartzCronParser.parse("0 0 0 * * ?"));
+        List<ExecutionTime> executionTimes = Lists.newArrayList();
+        for(int j = 0; j < 2000; j++){
+            executionTimes.add(j % 2 == 0 ? everyMinute : daily);
+        }
+        long epochSecond = new DateTime(2016, 6, 1, 10, 0, 30, DateTimeZone.UTC).getMillis() / 1000;
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            long[] executions = ExecutionTime.nextExecutions(executionTimes, epochSecond, DateTimeZone.UTC, executorService);
+            assertEquals(executionTimes.size(), executions.length);
+            for(int j = 0; j < executions.length; j++){
+                assertEquals(j % 2 == 0 ? epochSecond + 30 : epochSecond + 14 * 3600 - 30, executions[j]);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testSortedReferencesMatchSingleExecutions() {
+        DateTimeZone zone = DateTimeZone.forID("Europe/Paris");
+        long from = new DateTime(2015, 3, 28, 0, 0, zone).getMillis() / 1000;
+        long[] epochSeconds = new long[500];
+        for(int j = 0; j < epochSeconds.length; j++){
+            epochSeconds[j] = from + j * 877L;
+        }
+        for(String expression : new String[]{"0 0/15 * * * ?", "0 30 2 * * ?", "0 0 0 ? * MON,WED,FRI", "0 0 1 1 1 ? 2015"}){
+            ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse(expression));
+            long[] next = executionTime.nextExecutions(epochSeconds, zone);
+            long[] last = executionTime.lastExecutions(epochSeconds, zone);
+            long[] jdkLast = executionTime.lastExecutions(epochSeconds, zone.toTimeZone());
+            for(int j = 0; j < epochSeconds.length; j++){
+                assertEquals(executionTime.nextExecution(epochSeconds[j], zone), next[j]);
+                assertEquals(executionTime.lastExecution(epochSeconds[j], zone), last[j]);
+                assertEquals(last[j], jdkLast[j]);
+            }
+        }
+    }
+
+    @Test
+    public void testSortedReferencesAcrossMonthsAndTransitions() {
+        Random random = new Random(7);
+        for(String id : new String[]{"Europe/Paris", "America/New_York", "Australia/Lord_Howe"}){
+            DateTimeZone zone = DateTimeZone.forID(id);
+            long[] epochSeconds = new long[3000];
+            epochSeconds[0] = new DateTime(2015, 1, 1, 0, 0, zone).getMillis() / 1000;
+            for(int j = 1; j < epochSeconds.length; j++){
+                epochSeconds[j] = epochSeconds[j - 1] + random.nextInt(6 * 3600);
+            }
+            for(String expression : new String[]{"0 0/15 * * * ?", "0 30 2 * * ?", "0 0 0 L * ?", "0 15 1-3 ? * SUN", "30 * 2 * * ?"}){
+                for(GapPolicy gapPolicy : GapPolicy.values()){
+                    for(OverlapPolicy overlapPolicy : OverlapPolicy.values()){
+                        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse(expression))
+                                .withTransitionPolicies(gapPolicy, overlapPolicy);
+                        long[] next = executionTime.nextExecutions(epochSeconds, zone);
+                        long[] last = executionTime.lastExecutions(epochSeconds, zone);
+                        for(int j = 0; j < epochSeconds.length; j++){
+                            String message = expression + " " + gapPolicy + " " + overlapPolicy + " in " + id + " at " + epochSeconds[j];
+                            assertEquals(message, executionTime.nextExecution(epochSeconds[j], zone), next[j]);
+                            assertEquals(message, executionTime.lastExecution(epochSeconds[j], zone), last[j]);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSortedReferencesOnExecutions() {
+        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse("0 * * * * ?"));
+        long[] epochSeconds = {60, 60, 61, 120, 150, 3600};
+        assertArrayEquals(new long[]{120, 120, 120, 180, 180, 3660}, executionTime.nextExecutions(epochSeconds, DateTimeZone.UTC));
+        assertArrayEquals(new long[]{0, 0, 60, 60, 120, 3540}, executionTime.lastExecutions(epochSeconds, DateTimeZone.UTC));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsortedReferences() {
+        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse("0 * * * * ?"));
+        executionTime.nextExecutions(new long[]{120, 60}, DateTimeZone.UTC);
+    }
+
+    @Test
+    public void testExecutionsBeforeMatchesLastExecution() {
+        DateTimeZone zone = DateTimeZone.forID("America/New_York");
+        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse("0 30 1,2 ? * MON,WED,FRI,SUN"));
+        DateTime date = new DateTime(2016, 11, 9, 0, 0, 0, 500, zone);
+        Iterator<DateTime> executions = executionTime.executionsBefore(date);
+        DateTime expected = date;
+        for(int j = 0; j < 300; j++){
+            expected = executionTime.lastExecution(expected);
+            assertEquals(expected, executions.next());
+        }
+    }
+
+    @Test
+    public void testExecutionsBeforeEndsWithYearRange() {
+        ExecutionTime executionTime = ExecutionTime.forCron(quartzCronParser.parse("0 0 12 1 1 ? 2014,2015"));
+        Iterator<DateTime> executions = executionTime.executionsBefore(new DateTime(2016, 1, 1, 0, 0, DateTimeZone.UTC));
+        assertEquals(new DateTime(2015, 1, 1, 12, 0, DateTimeZone.UTC), executions.next());
+        assertEquals(new DateTime(2014, 1, 1, 12, 0, DateTimeZone.UTC), executions.next());
+        assertFalse(executions.hasNext());
+    }
+
+    @Test
+    public void testPeriod() {
+        assertEquals(Duration.standardMinutes(5), ExecutionTime.forCron(quartzCronParser.parse("0 0/5 * * * ?")).getPeriod().get());
+        assertEquals(Duration.standardSeconds(1), ExecutionTime.forCron(quartzCronParser.parse("* * * * * ?")).getPeriod().get());
+        assertEquals(Duration.standardSeconds(20), ExecutionTime.forCron(quartzCronParser.parse("5/20 * * * * ?")).getPeriod().get());
+        assertEquals(Duration.standardHours(1), ExecutionTime.forCron(quartzCronParser.parse("0 0 * * * ?")).getPeriod().get());
+        assertEquals(Duration.standardHours(6), ExecutionTime.forCron(quartzCronParser.parse("0 30 3/6 * * ?")).getPeriod().get());
+        assertEquals(Duration.standardDays(1), ExecutionTime.forCron(quartzCronParser.parse("0 30 3 * * ?")).getPeriod().get());
+        assertFalse(ExecutionTime.forCron(quartzCronParser.parse("0 0/7 * * * ?")).getPeriod().isPresent());
+        assertFalse(ExecutionTime.forCron(quartzCronParser.parse("0 0/5 9 * * ?")).getPeriod().isPresent());
+        assertFalse(ExecutionTime.forCron(quartzCronParser.parse("0 0/5 * * 1 ?")).getPeriod().isPresent());
+        assertFalse(ExecutionTime.forCron(quartzCronParser.parse("0 0/5 * ? * MON")).getPeriod().isPresent());
+        assertFalse(ExecutionTime.forCron(quartzCronParser.parse("0 0/5 * * * ? 2016")).getPeriod().isPresent());
+    }
+
+    @Test
+    public void testPeriodMatchesFieldByFieldSearch() {
+        DateTimeZone zone = DateTimeZone.forID("Europe/London");
+        for(String[] expressions : new String[][]{{"0 0/5 * * * ?", "0 0/5 * 1-31 * ?"}, {"0 30 1/2 * * ?", "0 30 1/2 1-31 * ?"}}){
+            ExecutionTime periodic = ExecutionTime.forCron(quartzCronParser.parse(expressions[0]));
+            ExecutionTime searched = ExecutionTime.forCron(quartzCronParser.parse(expressions[1]));
+            assertTrue(periodic.getPeriod().isPresent());
+            assertFalse(searched.getPeriod().isPresent());
+            DateTime from = new DateTime(2016, 3, 26, 22, 0, zone);
+            for(long epochSecond = from.getMillis() / 1000; epochSecond < from.plusDays(2).getMillis() / 1000; epochSecond += 97){
+                assertEquals(searched.nextExecution(epochSecond, zone), periodic.nextExecution(epochSecond, zone));
+                assertEquals(searched.lastExecution(epochSecond, zone), periodic.lastExecution(epochSecond, zone));
+                assertEquals(searched.isMatch(epochSecond, zone), periodic.isMatch(epochSecond, zone));
+            }
+            DateTime to = new DateTime(2016, 10, 31, 0, 0, zone);
+            assertEquals(searched.countExecutions(from, to), periodic.countExecutions(from, to));
+        }
+        ExecutionTime periodic = ExecutionTime.forCron(quartzCronParser.parse("0 0 * * * ?"));
+        assertEquals(ExecutionTime.NO_EXECUTION,
+                periodic.nextExecution(new DateTime(2099, 12, 31, 23, 0, DateTimeZone.UTC).getMillis() / 1000, DateTimeZone.UTC));
+        assertEquals(ExecutionTime.NO_EXECUTION, periodic.lastExecution(0, DateTimeZone.UTC));
+    }
+
     private DateTime truncateToSeconds(DateTime dateTime){
         return new DateTime(
                 dateTime.getYear(),
@@ -412,4 +879,14 @@ public class ExecutionTimeQuartzIntegrationTest {
                 dateTime.getSecondOfMinute()
         );
     }
-}
\ No newline at end of file
+
+    private long countIterated(ExecutionTime executionTime, DateTime from, DateTime to) {
+        long count = 0;
+        Iterator<DateTime> executions = executionTime.executionsBetween(from, to);
+        while(executions.hasNext()){
+            executions.next();
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,76 @@
+package com.cronutils.model.time;
+
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class ExecutionZoneTest {
+    private static final String[] ZONES = {"UTC", "America/New_York", "Europe/Berlin", "Australia/Sydney", "Asia/Kolkata", "Australia/Lord_Howe"};
+
+    @Test
+    public void testJdkZoneMatchesJodaZone() throws Exception {
+        long from = CalendarArithmetic.localSecond(2015, 1, 1, 0, 0, 0);
+        long to = CalendarArithmetic.localSecond(2017, 1, 1, 0, 0, 0);
+        for(String id : ZONES){
+            DateTimeZone zone = DateTimeZone.forID(id);
+            ExecutionZone joda = ExecutionZone.of(zone);
+            ExecutionZone jdk = ExecutionZone.of(TimeZone.getTimeZone(id));
+            for(long second = from; second < to; second += 15 * 60){
+                assertEquals(id, zone.getOffset(second * 1000L) / 1000, joda.getOffset(second));
+                assertEquals(id, joda.getOffset(second), jdk.getOffset(second));
+                assertEquals(id, joda.segmentStart(second), jdk.segmentStart(second));
+                assertEquals(id + " at local " + second, zone.getOffsetFromLocal(second * 1000L) / 1000, joda.getOffsetFromLocal(second));
+                assertEquals(id + " at local " + second, joda.getOffsetFromLocal(second), jdk.getOffsetFromLocal(second));
+            }
+        }
+    }
+
+    @Test
+    public void testSegments() throws Exception {
+        ExecutionZone zone = ExecutionZone.of(DateTimeZone.forID("America/New_York"));
+        long springForward = CalendarArithmetic.localSecond(2016, 3, 13, 7, 0, 0);
+        long fallBack = CalendarArithmetic.localSecond(2016, 11, 6, 6, 0, 0);
+        long yearStart = CalendarArithmetic.localSecond(2016, 1, 1, 0, 0, 0);
+        assertEquals(yearStart, zone.segmentStart(springForward - 1));
+        assertEquals(springForward, zone.segmentEnd(springForward - 1));
+        assertEquals(springForward, zone.segmentStart(springForward));
+        assertEquals(fallBack, zone.segmentEnd(springForward));
+        assertEquals(-5 * 3600, zone.getOffset(springForward - 1));
+        assertEquals(-4 * 3600, zone.getOffset(springForward));
+    }
+
+    @Test
+    public void testGapShiftsForward() throws Exception {
+        long local = CalendarArithmetic.localSecond(2016, 3, 13, 2, 30, 0);
+        long expected = CalendarArithmetic.localSecond(2016, 3, 13, 7, 30, 0);
+        assertEquals(expected, ExecutionZone.of(TimeZone.getTimeZone("America/New_York")).toEpochSecond(local));
+    }
+
+    @Test
+    public void testOverlapSelectsEarlierInstant() throws Exception {
+        long local = CalendarArithmetic.localSecond(2016, 11, 6, 1, 30, 0);
+        long expected = CalendarArithmetic.localSecond(2016, 11, 6, 5, 30, 0);
+        assertEquals(expected, ExecutionZone.of(TimeZone.getTimeZone("America/New_York")).toEpochSecond(local));
+    }
+
+    @Test
+    public void testInstancesAreCached() throws Exception {
+        assertSame(ExecutionZone.of(DateTimeZone.forID("Europe/Berlin")), ExecutionZone.of(DateTimeZone.forID("Europe/Berlin")));
+        assertSame(ExecutionZone.of(TimeZone.getTimeZone("Europe/Berlin")), ExecutionZone.of(TimeZone.getTimeZone("Europe/Berlin")));
+    }
+}
@@ -8,6 +8,8 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 /*
  * Copyright 2015 jmrozanec
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -72,6 +74,61 @@ public class TimeNodeTest {
         assertResult(LIST_END_VALUE, 1, timeNode.getPreviousValue(LOW_INTERMEDIATE_VALUE, 0));
     }
 
+    @Test
+    public void testContains() throws Exception {
+        assertTrue(timeNode.contains(LIST_START_VALUE));
+        assertTrue(timeNode.contains(LIST_MEDIUM_VALUE));
+        assertTrue(timeNode.contains(LIST_END_VALUE));
+        assertFalse(timeNode.contains(LOW_INTERMEDIATE_VALUE));
+        assertFalse(timeNode.contains(HIGH_INTERMEDIATE_VALUE));
+        assertFalse(timeNode.contains(-1));
+        assertFalse(timeNode.contains(64));
+    }
+
+    @Test
+    public void testCeilingAndFloor() throws Exception {
+        assertEquals(LIST_START_VALUE, timeNode.ceiling(LOW_INTERMEDIATE_VALUE));
+        assertEquals(LIST_MEDIUM_VALUE, timeNode.ceiling(LIST_MEDIUM_VALUE));
+        assertEquals(LIST_END_VALUE, timeNode.ceiling(HIGH_INTERMEDIATE_VALUE));
+        assertEquals(TimeNode.NO_VALUE, timeNode.ceiling(LIST_END_VALUE + 1));
+
+        assertEquals(TimeNode.NO_VALUE, timeNode.floor(LOW_INTERMEDIATE_VALUE));
+        assertEquals(LIST_MEDIUM_VALUE, timeNode.floor(LIST_MEDIUM_VALUE));
+        assertEquals(LIST_MEDIUM_VALUE, timeNode.floor(HIGH_INTERMEDIATE_VALUE));
+        assertEquals(LIST_END_VALUE, timeNode.floor(100));
+    }
+
+    @Test
+    public void testCountLowerThan() throws Exception {
+        assertEquals(0, timeNode.countLowerThan(LIST_START_VALUE));
+        assertEquals(1, timeNode.countLowerThan(LIST_MEDIUM_VALUE));
+        assertEquals(2, timeNode.countLowerThan(LIST_MEDIUM_VALUE + 1));
+        assertEquals(3, timeNode.countLowerThan(100));
+    }
+
+    @Test
+    public void testFullRangeValues() throws Exception {
+        List<Integer> range = Lists.newArrayList();
+        for(int j=0; j<60; j++){
+            range.add(j);
+        }
+        TimeNode node = new TimeNode(range);
+        assertEquals(60, node.size());
+        assertEquals(0, node.getLowestValue());
+        assertEquals(59, node.getHighestValue());
+        assertResult(0, 1, node.getNextValue(59, 1));
+        assertResult(59, 1, node.getPreviousValue(0, 1));
+    }
+
+    @Test
+    public void testValuesOutOfMaskRange() throws Exception {
+        TimeNode node = new TimeNode(Lists.newArrayList(-1, 2, 4));
+        assertTrue(node.contains(-1));
+        assertEquals(-1, node.ceiling(-5));
+        assertResult(2, 0, node.getNextValue(1, 0));
+        assertResult(-1, 1, node.getNextValue(5, 0));
+    }
+
     @Test
     public void testGetValueFromListWhereIndexLessThanZero(){
         int index = -1;
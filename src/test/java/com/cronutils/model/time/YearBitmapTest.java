@@ -0,0 +1,84 @@
+package com.cronutils.model.time;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.model.field.CronField;
+import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.field.constraint.FieldConstraints;
+import com.cronutils.model.field.constraint.FieldConstraintsBuilder;
+import com.cronutils.model.field.expression.Always;
+import com.cronutils.model.time.generator.FieldValueGeneratorFactory;
+import com.cronutils.parser.CronParser;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class YearBitmapTest {
+    private CronParser quartzCronParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+
+    @Test
+    public void testQuartzYears() {
+        YearBitmap years = quartzYears("0 0 0 1 1 ? 1975,2015,2040-2042");
+        assertTrue(years.contains(2015));
+        assertTrue(years.contains(2041));
+        assertFalse(years.contains(2016));
+        assertFalse(years.contains(1969));
+        assertFalse(years.contains(2100));
+        assertEquals(1975, years.ceiling(1900));
+        assertEquals(2015, years.ceiling(1976));
+        assertEquals(2015, years.ceiling(2015));
+        assertEquals(2040, years.ceiling(2016));
+        assertEquals(YearBitmap.NO_VALUE, years.ceiling(2043));
+        assertEquals(YearBitmap.NO_VALUE, years.ceiling(3000));
+        assertEquals(2042, years.floor(3000));
+        assertEquals(2015, years.floor(2039));
+        assertEquals(1975, years.floor(2014));
+        assertEquals(YearBitmap.NO_VALUE, years.floor(1974));
+    }
+
+    @Test
+    public void testQuartzYearsAlways() {
+        YearBitmap years = quartzYears("0 0 0 1 1 ? *");
+        for(int year = 1970; year <= 2099; year++){
+            assertTrue(years.contains(year));
+            assertEquals(year, years.ceiling(year));
+            assertEquals(year, years.floor(year));
+        }
+        assertEquals(1970, years.ceiling(1));
+        assertEquals(YearBitmap.NO_VALUE, years.ceiling(2100));
+        assertEquals(2099, years.floor(2100));
+    }
+
+    @Test
+    public void testYearsPastBitmapUseGenerator() {
+        FieldConstraints constraints = FieldConstraintsBuilder.instance().forField(CronFieldName.YEAR).createConstraintsInstance();
+        YearBitmap years = new YearBitmap(
+                FieldValueGeneratorFactory.forCronField(new CronField(CronFieldName.YEAR, new Always(), constraints)),
+                constraints
+        );
+        int pastBitmap = constraints.getStartRange() + YearBitmap.MAX_YEARS;
+        assertTrue(years.contains(2015));
+        assertTrue(years.contains(pastBitmap + 10));
+        assertEquals(pastBitmap - 1, years.ceiling(pastBitmap - 1));
+        assertEquals(pastBitmap, years.ceiling(pastBitmap));
+        assertEquals(pastBitmap + 10, years.floor(pastBitmap + 10));
+    }
+
+    private YearBitmap quartzYears(String expression){
+        CronField years = quartzCronParser.parse(expression).retrieve(CronFieldName.YEAR);
+        return new YearBitmap(FieldValueGeneratorFactory.forCronField(years), years.getConstraints());
+    }
+}
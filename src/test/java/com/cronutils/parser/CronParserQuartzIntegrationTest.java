@@ -6,6 +6,7 @@ import com.cronutils.model.CronType;
 import com.cronutils.model.definition.CronDefinition;
 import com.cronutils.model.definition.CronDefinitionBuilder;
 import com.cronutils.model.time.ExecutionTime;
+import com.google.common.collect.Sets;
 import org.joda.time.DateTime;
 import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
@@ -14,6 +15,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Locale;
+import java.util.Set;
 
 /*
  * Copyright 2015 jmrozanec
@@ -206,4 +208,65 @@ public class CronParserQuartzIntegrationTest {
         DateTime assertDate = DateTime.parse("2005-01-09 18:28:00", formatter);
         Assert.assertEquals(assertDate, lastExecution);
     }
+
+    @Test
+    public void testHashedValuesAreDeterministicPerKey() throws Exception {
+        Cron cron = parser.parse("0 H H(0-5) ? * H", "job-1");
+        Assert.assertEquals("0 H H(0-5) ? * H", cron.asString());
+        ExecutionTime executionTime = ExecutionTime.forCron(cron);
+        DateTime reference = new DateTime(2016, 1, 1, 0, 0);
+        Assert.assertEquals(executionTime.nextExecution(reference),
+                ExecutionTime.forCron(parser.parse("0 H H(0-5) ? * H", "job-1")).nextExecution(reference));
+        DateTime next = executionTime.nextExecution(reference);
+        Assert.assertTrue(next.getHourOfDay() <= 5);
+        Assert.assertEquals(0, next.getSecondOfMinute());
+        Assert.assertEquals(next.plusWeeks(1), executionTime.nextExecution(next));
+    }
+
+    @Test
+    public void testHashedValuesSpreadOverKeys() throws Exception {
+        Set<Integer> minutes = Sets.newHashSet();
+        for (int j = 0; j < 200; j++) {
+            Cron cron = parser.parse("0 H * * * ?", "job-" + j);
+            minutes.add(ExecutionTime.forCron(cron).nextExecution(new DateTime(2016, 1, 1, 0, 0)).getMinuteOfHour());
+        }
+        Assert.assertTrue(minutes.size() > 40);
+    }
+
+    @Test
+    public void testHashedDayOfMonthPresentInEveryMonth() throws Exception {
+        for (int j = 0; j < 500; j++) {
+            Cron cron = parser.parse("0 0 0 H * ?", "job-" + j);
+            int day = ExecutionTime.forCron(cron).nextExecution(new DateTime(2016, 1, 31, 12, 0)).getDayOfMonth();
+            Assert.assertTrue("job-" + j + " runs on day " + day, day <= 28);
+        }
+        Cron ranged = parser.parse("0 0 0 H(29-31) * ?", "job");
+        Assert.assertTrue(ExecutionTime.forCron(ranged).nextExecution(new DateTime(2016, 1, 1, 0, 0)).getDayOfMonth() >= 29);
+    }
+
+    @Test
+    public void testHashedPeriod() throws Exception {
+        ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("0 H/15 * * * ?", "job"));
+        DateTime first = executionTime.nextExecution(new DateTime(2015, 12, 31, 23, 59, 59));
+        Assert.assertTrue(first.getMinuteOfHour() < 15);
+        Assert.assertEquals(first.plusMinutes(15), executionTime.nextExecution(first));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHashedValuesRequireKey() throws Exception {
+        parser.parse("0 H * * * ?");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHashedRangeOutOfFieldRange() throws Exception {
+        parser.parse("0 H(0-75) * * * ?", "job");
+    }
+
+    @Test
+    public void testHashedDescription() throws Exception {
+        Cron cron = parser.parse("0 H 2 * * ?", "job");
+        int minute = ExecutionTime.forCron(cron).nextExecution(new DateTime(2016, 1, 1, 0, 0)).getMinuteOfHour();
+        Assert.assertEquals(CronDescriptor.instance(Locale.ENGLISH).describe(parser.parse(String.format("0 %s 2 * * ?", minute))),
+                CronDescriptor.instance(Locale.ENGLISH).describe(cron));
+    }
 }
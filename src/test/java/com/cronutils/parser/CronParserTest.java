@@ -1,10 +1,16 @@
 package com.cronutils.parser;
 
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
 import com.cronutils.model.definition.CronDefinition;
+import com.cronutils.model.definition.CronDefinitionBuilder;
 import com.cronutils.model.field.CronFieldName;
 import com.cronutils.model.field.constraint.FieldConstraintsBuilder;
 import com.cronutils.model.field.definition.FieldDefinition;
+import com.cronutils.model.field.expression.Hashed;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -12,8 +18,19 @@ import org.junit.rules.ExpectedException;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.List;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.when;
 /*
@@ -107,4 +124,220 @@ public class CronParserTest {
 
         parser.parse("* *   * * *");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCachedParserSharesCronForNormalizedExpression() throws Exception {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ), 10);
+        Cron cron = parser.parse("0 0 12 ? * mon");
+        assertSame(cron, parser.parse(" 0  0\t12 ? * MON "));
+        assertNotSame(cron, parser.parse("0 0 13 ? * MON"));
+        assertEquals(1, parser.cacheStats().hitCount());
+        assertEquals(2, parser.cacheStats().missCount());
+        assertEquals(2, parser.cacheSize());
+    }
+
+    @Test
+    public void testCachedParserKeysByHashKey() throws Exception {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ), 10);
+        Cron cron = parser.parse("0 H * * * ?", "job-a");
+        assertSame(cron, parser.parse("0 H * * * ?", "job-a"));
+        assertNotSame(cron, parser.parse("0 H * * * ?", "job-b"));
+    }
+
+    @Test
+    public void testCachedParserEvictsAndDoesNotCacheFailures() throws Exception {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ), 1);
+        parser.parse("0 0 12 * * ?");
+        parser.parse("0 0 13 * * ?");
+        assertEquals(1, parser.cacheSize());
+        assertEquals(1, parser.cacheStats().evictionCount());
+        for (int j = 0; j < 2; j++) {
+            try {
+                parser.parse("0 0 25 * * ?");
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException e) {
+                //expected
+            }
+        }
+        assertEquals(1, parser.cacheSize());
+    }
+
+    @Test
+    public void testUncachedParserHasNoStats() throws Exception {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        assertNotSame(parser.parse("0 0 12 * * ?"), parser.parse("0 0 12 * * ?"));
+        assertEquals(0, parser.cacheStats().requestCount());
+        assertEquals(0, parser.cacheSize());
+    }
+
+    @Test
+    public void testParseAllKeepsOrderAndCollectsFailures() throws Exception {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        List<ParseResult> results = parser.parseAll(Lists.newArrayList("0 0 12 * * ?", "0 0 25 * * ?", null, "0 0/5 * ? * MON"));
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).isValid());
+        assertEquals("0 0 12 * * ?", results.get(0).getCron().asString());
+        assertFalse(results.get(1).isValid());
+        assertNull(results.get(1).getCron());
+        assertEquals(1, results.get(1).getIndex());
+        assertFalse(results.get(2).isValid());
+        assertEquals("Expression must not be null", results.get(2).getError());
+        assertTrue(results.get(3).isValid());
+        ParseResult result = parser.parseAll(Lists.newArrayList("0 0 12 1 * MON")).get(0);
+        assertEquals(parser.validate("0 0 12 1 * MON").getReason(), result.getError());
+    }
+
+    @Test
+    public void testParseAllSharesCachedCron() throws Exception {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ), 10);
+        Cron cron = parser.parseAll(Lists.newArrayList("0 0 12  * * ?")).get(0).getCron();
+        assertSame(cron, parser.parse("0 0 12 * * ?"));
+        assertSame(cron, parser.parseAll(Lists.newArrayList("0 0 12 * * ?")).get(0).getCron());
+        assertEquals(1, parser.cacheSize());
+    }
+
+    @Test
+    public void testParseAllWithExecutorMatchesParse() throws Exception {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        List<String> expressions = Lists.newArrayList();
+        for (int j = 0; j < 2000; j++) {
+            expressions.add(String.format("0 %s %s * * ?", j % 61, j % 25));
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<ParseResult> results = parser.parseAll(expressions, executorService);
+            assertEquals(expressions.size(), results.size());
+            for (int j = 0; j < expressions.size(); j++) {
+                ParseResult result = results.get(j);
+                assertEquals(j, result.getIndex());
+                assertEquals(expressions.get(j), result.getExpression());
+                try {
+                    assertEquals(parser.parse(expressions.get(j)).asString(), result.getCron().asString());
+                } catch (IllegalArgumentException e) {
+                    assertEquals(e.getMessage(), result.getError());
+                }
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testValidate() throws Exception {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        assertTrue(parser.validate("0 0/5 9-17 ? * mon-fri").isValid());
+        ValidationResult result = parser.validate("0 0 25 * * ?");
+        assertFalse(result.isValid());
+        assertEquals(CronFieldName.HOUR, result.getField());
+        assertEquals(4, result.getPosition());
+        assertEquals("Value 25 not in range [0, 23]", result.getReason());
+    }
+
+    @Test
+    public void testValidateWholeExpressionProblems() throws Exception {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        assertEquals("Expression must not be null", parser.validate(null).getReason());
+        assertEquals("Empty expression!", parser.validate("  ").getReason());
+        assertEquals(-1, parser.validate("* *").getPosition());
+        ValidationResult result = parser.validate("0 0 12 1 * MON");
+        assertFalse(result.isValid());
+        assertEquals(CronFieldName.DAY_OF_WEEK, result.getField());
+        assertEquals(11, result.getPosition());
+        assertEquals("Both, a day-of-week AND a day-of-month parameter, are not supported.", result.getReason());
+        assertEquals(CronFieldName.DAY_OF_WEEK, parser.validate("0 0 12 ? * ?").getField());
+    }
+
+    @Test
+    public void testHashedUnixDayOfWeekSpreadsEvenly() throws Exception {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX));
+        int[] days = new int[8];
+        for (int j = 0; j < 2000; j++) {
+            Hashed hashed = (Hashed) parser.parse("0 0 * * H", "job" + j).retrieve(CronFieldName.DAY_OF_WEEK).getExpression();
+            days[hashed.getValue()]++;
+        }
+        assertEquals(0, days[7]);
+        for (int day = 0; day < 7; day++) {
+            assertTrue("day " + day + ": " + days[day], days[day] > 200 && days[day] < 380);
+        }
+    }
+
+    @Test
+    public void testValidateReportsPosition() throws Exception {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX));
+        assertTrue(parser.validate("0/15,30-45 * * * *").isValid());
+        ValidationResult result = parser.validate("1,x * * * *");
+        assertFalse(result.isValid());
+        assertEquals(CronFieldName.MINUTE, result.getField());
+        assertEquals(2, result.getPosition());
+        assertEquals("Invalid value. Expected some integer, found X", result.getReason());
+        result = parser.validate(" 0  10-75 * * *");
+        assertEquals(CronFieldName.HOUR, result.getField());
+        assertEquals(4, result.getPosition());
+        assertEquals("Value 75 not in range [0, 23]", result.getReason());
+        result = parser.validate("0 0 * * MON#x");
+        assertEquals(CronFieldName.DAY_OF_WEEK, result.getField());
+        assertEquals(12, result.getPosition());
+    }
+
+    @Test
+    public void testValidateMatchesParse() throws Exception {
+        Random random = new Random(17);
+        for (CronType cronType : CronType.values()) {
+            parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(cronType));
+            for (int j = 0; j < 20000; j++) {
+                String expression = randomExpression(random, cronType);
+                assertValidateMatchesParse(expression, null);
+                assertValidateMatchesParse(expression, "job-" + j);
+            }
+        }
+    }
+
+    private void assertValidateMatchesParse(String expression, String hashKey) {
+        String error = null;
+        try {
+            parser.parse(expression, hashKey);
+        } catch (RuntimeException e) {
+            error = e.getMessage();
+        }
+        ValidationResult result = parser.validate(expression, hashKey);
+        assertEquals(expression + " " + hashKey, error == null, result.isValid());
+        if (error != null && !error.startsWith("Invalid cron expression:")) {
+            assertEquals(expression + " " + hashKey, error, result.getReason());
+        }
+    }
+
+    @Test
+    public void testValidateHashedExpression() throws Exception {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        assertFalse(parser.validate("0 H * * * ?").isValid());
+        assertTrue(parser.validate("0 H * * * ?", "job").isValid());
+        ValidationResult result = parser.validate("0 H(0-60) * * * ?", "job");
+        assertFalse(result.isValid());
+        assertEquals(CronFieldName.MINUTE, result.getField());
+    }
+
+    /**
+     * Valid expression with a single field replaced by random pieces.
+     */
+    private String randomExpression(Random random, CronType cronType) {
+        String[] pieces = {
+                "0", "1", "3", "5", "7", "12", "23", "31", "59", "60", "99", "2016", "00", "+3", "*", "?",
+                "L", "W", "LW", "l", "w", "#", "/", "-", ",", "MON", "fri", "JAN", "dec", "H", "H(0-5)", "X", "NONE"
+        };
+        String[] fields = cronType == CronType.QUARTZ ?
+                new String[]{"0", "0", "12", "?", "*", "MON"} : new String[]{"0", "12", "*", "*", "1"};
+        int field = random.nextInt(fields.length);
+        StringBuilder builder = new StringBuilder();
+        for (int piece = random.nextInt(5); piece >= 0; piece--) {
+            builder.append(pieces[random.nextInt(pieces.length)]);
+        }
+        fields[field] = builder.toString();
+        if (cronType == CronType.QUARTZ && field == 5) {
+            fields[3] = "?";
+        }
+        if (cronType == CronType.QUARTZ && field == 3) {
+            fields[5] = random.nextBoolean() ? "?" : "MON";
+        }
+        return StringUtils.join(fields, random.nextInt(10) == 0 ? "  " : " ");
+    }
+}
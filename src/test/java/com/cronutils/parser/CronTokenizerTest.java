@@ -0,0 +1,70 @@
+package com.cronutils.parser;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class CronTokenizerTest {
+
+    @Test
+    public void testCountTokens() {
+        assertEquals(0, CronTokenizer.countTokens(""));
+        assertEquals(0, CronTokenizer.countTokens(" \t\n"));
+        assertEquals(5, CronTokenizer.countTokens("* * * * *"));
+        assertEquals(6, CronTokenizer.countTokens("  0\t0/5 \r\n* ? *  MON-FRI "));
+    }
+
+    @Test
+    public void testNextSkipsAnyWhitespace() {
+        CronTokenizer tokenizer = new CronTokenizer(" 0\t\t0/5\u000B*\f?\r\n1,2 ");
+        assertEquals("0", tokenizer.next());
+        assertEquals("0/5", tokenizer.next());
+        assertEquals("*", tokenizer.next());
+        assertEquals("?", tokenizer.next());
+        assertTrue(tokenizer.hasNext());
+        assertEquals("1,2", tokenizer.next());
+        assertFalse(tokenizer.hasNext());
+        assertNull(tokenizer.next());
+    }
+
+    @Test
+    public void testStartOfLastToken() {
+        CronTokenizer tokenizer = new CronTokenizer("  0 \t12 ");
+        assertEquals(-1, tokenizer.start());
+        tokenizer.next();
+        assertEquals(2, tokenizer.start());
+        assertTrue(tokenizer.hasNext());
+        assertEquals(2, tokenizer.start());
+        tokenizer.next();
+        assertEquals(5, tokenizer.start());
+    }
+
+    @Test
+    public void testNextUpperCasesTokens() {
+        CronTokenizer tokenizer = new CronTokenizer("mon-Fri JAN l");
+        assertEquals("MON-FRI", tokenizer.next());
+        assertEquals("JAN", tokenizer.next());
+        assertEquals("L", tokenizer.next());
+    }
+
+    @Test
+    public void testWholeExpressionTokenIsNotCopied() {
+        String expression = "MON-FRI";
+        assertSame(expression, new CronTokenizer(expression).next());
+    }
+}
@@ -0,0 +1,134 @@
+package com.cronutils.parser;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Strings;
+import com.google.common.io.Files;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class CrontabReaderTest {
+    private static final String CRONTAB =
+            "# m h dom mon dow command\n" +
+            "SHELL=/bin/bash\n" +
+            "\n" +
+            "MAILTO = \"ops@example.com\"\r\n" +
+            "*/15  9-17 * * 1-5   /usr/bin/report --all  \r\n" +
+            "   # indented comment\n" +
+            "@daily backup.sh\n" +
+            "PATH='/usr/bin'\n" +
+            "@reboot start.sh\n" +
+            "0 0 1 1 * echo 100% done";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReadEntries() throws Exception {
+        CrontabReader reader = new CrontabReader(new StringReader(CRONTAB));
+        assertEntries(reader);
+    }
+
+    @Test
+    public void testReadMappedFile() throws Exception {
+        File file = folder.newFile("crontab");
+        Files.write(CRONTAB, file, Charsets.UTF_8);
+        CrontabReader reader = CrontabReader.open(file);
+        try {
+            assertEntries(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    public void testLinesLongerThanBuffer() throws Exception {
+        String command = "echo " + Strings.repeat("x", 20000);
+        CrontabReader reader = new CrontabReader(new StringReader(
+                "#" + Strings.repeat("-", 10000) + "\n0 12 * * * " + command + "\n5 12 * * * short\n"));
+        CrontabEntry entry = reader.next();
+        assertEquals(2, entry.getLineNumber());
+        assertEquals(command, entry.getCommand());
+        assertEquals("short", reader.next().getCommand());
+        assertNull(reader.next());
+    }
+
+    @Test(timeout = 10000)
+    public void testSurrogatePairAtBufferBoundary() throws Exception {
+        String value = Strings.repeat("x", 8189) + "\uD83D\uDE00";
+        File file = folder.newFile("crontab");
+        Files.write("V=" + value + "\n0 12 * * * job\n", file, Charsets.UTF_8);
+        CrontabReader reader = CrontabReader.open(file);
+        try {
+            CrontabEntry entry = reader.next();
+            assertEquals("job", entry.getCommand());
+            assertEquals(value, entry.getEnvironment().get("V"));
+            assertNull(reader.next());
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidExpression() throws Exception {
+        new CrontabReader(new StringReader("0 25 * * * job\n")).next();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingCommand() throws Exception {
+        new CrontabReader(new StringReader("0 12 * * *\n")).next();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownMacro() throws Exception {
+        new CrontabReader(new StringReader("@fortnightly job\n")).next();
+    }
+
+    private void assertEntries(CrontabReader reader) throws Exception {
+        CrontabEntry entry = reader.next();
+        assertEquals(5, entry.getLineNumber());
+        assertEquals("*/15 9-17 * * 1-5", entry.getCron().asString());
+        assertNull(entry.getMacro());
+        assertEquals("/usr/bin/report --all", entry.getCommand());
+        assertEquals("/bin/bash", entry.getEnvironment().get("SHELL"));
+        assertEquals("ops@example.com", entry.getEnvironment().get("MAILTO"));
+        assertFalse(entry.getEnvironment().containsKey("PATH"));
+
+        entry = reader.next();
+        assertEquals("@daily", entry.getMacro());
+        assertEquals("0 0 * * *", entry.getCron().asString());
+        assertEquals("backup.sh", entry.getCommand());
+
+        entry = reader.next();
+        assertTrue(entry.isReboot());
+        assertEquals("start.sh", entry.getCommand());
+        assertEquals("/usr/bin", entry.getEnvironment().get("PATH"));
+
+        entry = reader.next();
+        assertEquals(10, entry.getLineNumber());
+        assertEquals("0 0 1 1 *", entry.getCron().asString());
+        assertEquals("echo 100% done", entry.getCommand());
+
+        assertNull(reader.next());
+        assertNull(reader.next());
+    }
+}
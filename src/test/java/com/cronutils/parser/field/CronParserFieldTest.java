@@ -53,7 +53,7 @@ public class CronParserFieldTest {
 
         when(mockParser.parse(anyString())).thenReturn(mockParseResponse);
         PowerMockito.whenNew(FieldParser.class)
-                .withArguments(any(FieldConstraints.class)).thenReturn(mockParser);
+                .withArguments(any(CronFieldName.class), any(FieldConstraints.class)).thenReturn(mockParser);
 
         cronParserField = new CronParserField(testFieldName, mock(FieldConstraints.class));
     }
@@ -0,0 +1,154 @@
+package com.cronutils.scheduler;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.model.time.ExecutionTime;
+import com.cronutils.parser.CronParser;
+import com.google.common.collect.Lists;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+public class TimingWheelSchedulerTest {
+    private static final Executor DIRECT = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+    private CronParser parser;
+    private long start;
+    private TimingWheelScheduler scheduler;
+
+    @Before
+    public void setUp() throws Exception {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+        start = new DateTime(2016, 1, 1, 0, 0, DateTimeZone.UTC).getMillis() / 1000;
+        scheduler = new TimingWheelScheduler(DIRECT, start);
+    }
+
+    @Test
+    public void testJobsRunAtTheirExecutions() throws Exception {
+        String[] expressions = {"*/10 * * * * ?", "0 */5 * * * ?", "0 0 12 * * ?", "30 */7 9-17 ? * MON,WED,FRI", "0 0 12 L * ?"};
+        List<List<Long>> runs = Lists.newArrayList();
+        for(String expression : expressions){
+            runs.add(scheduleRecording(expression));
+        }
+        long end = start + 3 * 24 * 3600;
+        for(long now = start + 1; now <= end; now++){
+            scheduler.advanceTo(now);
+        }
+        for(int j = 0; j < expressions.length; j++){
+            assertEquals(expressions[j], executions(expressions[j], start, end), runs.get(j));
+        }
+    }
+
+    @Test
+    public void testMissedExecutionsRunOnce() throws Exception {
+        String[] expressions = {"*/10 * * * * ?", "0 */5 * * * ?", "0 0 12 * * ?", "30 */7 9-17 ? * MON,WED,FRI", "0 0 12 L * ?"};
+        List<List<Long>> runs = Lists.newArrayList();
+        for(String expression : expressions){
+            runs.add(scheduleRecording(expression));
+        }
+        long end = start + 70 * 24 * 3600;
+        for(long now = start; now < end; now += 997){
+            scheduler.advanceTo(now);
+        }
+        scheduler.advanceTo(end);
+        for(int j = 0; j < expressions.length; j++){
+            assertEquals(expressions[j], executions(expressions[j], start, end).size(), runs.get(j).size());
+        }
+    }
+
+    @Test
+    public void testJobBeyondDaysWheel() throws Exception {
+        List<Long> runs = scheduleRecording("0 0 0 1 1 ? 2018");
+        long execution = new DateTime(2018, 1, 1, 0, 0, DateTimeZone.UTC).getMillis() / 1000;
+        scheduler.advanceTo(execution - 1);
+        assertTrue(runs.isEmpty());
+        scheduler.advanceTo(execution);
+        assertEquals(Lists.newArrayList(execution), runs);
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        final List<Long> runs = Lists.newArrayList();
+        ScheduledJob job = scheduler.schedule(ExecutionTime.forCron(parser.parse("0 * * * * ?")), DateTimeZone.UTC, new Runnable() {
+            @Override
+            public void run() {
+                runs.add(scheduler.getCurrentSecond());
+            }
+        });
+        assertEquals(start + 60, job.getNextExecution());
+        scheduler.advanceTo(start + 150);
+        assertEquals(2, runs.size());
+        assertTrue(job.cancel());
+        assertFalse(job.cancel());
+        assertTrue(job.isCancelled());
+        assertEquals(0, scheduler.size());
+        scheduler.advanceTo(start + 300);
+        assertEquals(2, runs.size());
+    }
+
+    @Test
+    public void testStartRunsTasksOnWallClock() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(2);
+        TimingWheelScheduler wallClockScheduler = new TimingWheelScheduler(DIRECT);
+        wallClockScheduler.schedule(ExecutionTime.forCron(parser.parse("* * * * * ?")), DateTimeZone.UTC, new Runnable() {
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        });
+        wallClockScheduler.start();
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } finally {
+            wallClockScheduler.shutdown();
+        }
+    }
+
+    private List<Long> scheduleRecording(String expression) {
+        final List<Long> runs = Lists.newArrayList();
+        scheduler.schedule(ExecutionTime.forCron(parser.parse(expression)), DateTimeZone.UTC, new Runnable() {
+            @Override
+            public void run() {
+                runs.add(scheduler.getCurrentSecond());
+            }
+        });
+        return runs;
+    }
+
+    private List<Long> executions(String expression, long from, long to) {
+        ExecutionTime executionTime = ExecutionTime.forCron(parser.parse(expression));
+        List<Long> executions = Lists.newArrayList();
+        long execution = executionTime.nextExecution(from, DateTimeZone.UTC);
+        while(execution <= to){
+            executions.add(execution);
+            execution = executionTime.nextExecution(execution, DateTimeZone.UTC);
+        }
+        return executions;
+    }
+}